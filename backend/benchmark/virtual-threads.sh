@@ -0,0 +1,110 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본)와 가상 스레드 모드의 처리량 / p99 지연시간 비교
+#
+# 느린 업로드가 Tomcat 요청 스레드를 점유하는 동안 DB를 조회하는 GET 엔드포인트에 높은 동시 부하를 걸고,
+# 두 모드에서 같은 조건으로 wrk 결과를 측정한다.
+#
+# 필요: Java 21, Maven, wrk, curl, 실행 중인 MySQL (예: docker compose up -d mysql)
+# 사용: benchmark/virtual-threads.sh
+#       DURATION=60s CONNECTIONS=2000 SLOW_UPLOADS=300 benchmark/virtual-threads.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+DURATION=${DURATION:-30s}
+CONNECTIONS=${CONNECTIONS:-1000}
+WRK_THREADS=${WRK_THREADS:-8}
+SLOW_UPLOADS=${SLOW_UPLOADS:-250}
+UPLOAD_RATE=${UPLOAD_RATE:-16k}
+PORT=${PORT:-18080}
+DB_URL=${DB_URL:-"jdbc:mysql://localhost:3307/profiledb?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true"}
+DB_USER=${DB_USER:-user}
+DB_PASSWORD=${DB_PASSWORD:-userpassword}
+# 응답 캐시를 거치지 않고 매 요청 JDBC 조회가 일어나는 페이지 조회
+TARGET=${TARGET:-"http://localhost:$PORT/api/projects?limit=20"}
+
+OUT=target/benchmark/virtual-threads
+mkdir -p "$OUT"
+
+for tool in java mvn wrk curl; do
+    command -v "$tool" > /dev/null || { echo "$tool is required" >&2; exit 1; }
+done
+
+mvn -q -B -Pjava21 -DskipTests package
+JAR=$(ls target/backend-*.jar | grep -v original | head -n 1)
+
+# 업로드 중 전송 속도를 제한해 요청 스레드를 오래 점유하는 2MB 파일
+PAYLOAD="$OUT/payload.bin"
+head -c $((2 * 1024 * 1024)) /dev/urandom > "$PAYLOAD"
+
+APP_PID=
+UPLOAD_PIDS=()
+
+cleanup() {
+    for pid in "${UPLOAD_PIDS[@]}"; do kill "$pid" 2> /dev/null || true; done
+    UPLOAD_PIDS=()
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2> /dev/null || true
+        wait "$APP_PID" 2> /dev/null || true
+        APP_PID=
+    fi
+}
+trap cleanup EXIT
+
+run_mode() {
+    local mode=$1 profiles=$2
+
+    java -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.profiles.active="$profiles" \
+        --spring.datasource.url="$DB_URL" \
+        --spring.datasource.username="$DB_USER" \
+        --spring.datasource.password="$DB_PASSWORD" \
+        --logging.level.root=WARN \
+        --logging.level.com.profile.backend=WARN \
+        --logging.level.org.hibernate.SQL=WARN \
+        --logging.level.org.springframework.web=WARN \
+        --app.upload.image-dir="$OUT/uploads-$mode" \
+        > "$OUT/$mode-app.log" 2>&1 &
+    APP_PID=$!
+
+    for _ in $(seq 1 120); do
+        curl -sf -o /dev/null "$TARGET" && break
+        sleep 1
+    done
+    curl -sf -o /dev/null "$TARGET" || { echo "application did not start, see $OUT/$mode-app.log" >&2; exit 1; }
+
+    # JIT 워밍업
+    wrk -t2 -c50 -d10s "$TARGET" > /dev/null
+
+    # 느린 스트리밍 업로드로 요청 스레드 점유
+    for _ in $(seq 1 "$SLOW_UPLOADS"); do
+        curl -s -o /dev/null --limit-rate "$UPLOAD_RATE" -H "X-Upload-Mode: stream" \
+            -F "file=@$PAYLOAD;filename=payload.png" "http://localhost:$PORT/api/images/upload" &
+        UPLOAD_PIDS+=($!)
+    done
+    sleep 3
+
+    wrk -t"$WRK_THREADS" -c"$CONNECTIONS" -d"$DURATION" --timeout 10s --latency "$TARGET" > "$OUT/$mode-wrk.txt"
+
+    cleanup
+}
+
+run_mode platform default
+run_mode virtual virtual-threads
+
+summary() {
+    local mode=$1 file="$OUT/$1-wrk.txt"
+    local rps p99 errors
+    rps=$(awk '/Requests\/sec/ {print $2}' "$file")
+    p99=$(awk '$1 == "99%" {print $2}' "$file")
+    errors=$(awk '/Socket errors|Non-2xx/ {printf "%s ", $0}' "$file")
+    printf "%-10s %12s %10s  %s\n" "$mode" "$rps" "$p99" "${errors:-none}"
+}
+
+echo
+printf "%-10s %12s %10s  %s\n" "mode" "req/s" "p99" "errors"
+summary platform
+summary virtual
+echo
+echo "raw wrk output: $OUT/{platform,virtual}-wrk.txt"
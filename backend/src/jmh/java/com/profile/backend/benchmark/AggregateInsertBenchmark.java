@@ -0,0 +1,132 @@
+package com.profile.backend.benchmark;
+
+import com.profile.backend.BackendApplication;
+import com.profile.backend.dto.ProfileDto;
+import com.profile.backend.dto.ProjectDto;
+import com.profile.backend.service.ProfileService;
+import com.profile.backend.service.ProjectService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 하위 항목이 많은 애그리거트 저장 비용 (실제 MySQL 필요, 예: docker compose up -d mysql)
+// 트러블슈팅 40개인 프로젝트, 기술 50개인 프로필을 저장
+// jdbcBatchSize=1 은 행마다 INSERT 를 한 번씩 보내던 이전 동작(IDENTITY)과 같은 왕복 수
+// 접속 정보는 환경변수 DB_URL, DB_USER, DB_PASSWORD (생성한 데이터는 반복마다 삭제)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AggregateInsertBenchmark {
+
+    private static final String DEFAULT_DB_URL = "jdbc:mysql://localhost:3307/profiledb"
+            + "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true";
+    private static final int TROUBLESHOOTING_COUNT = 40;
+    private static final int SKILL_COUNT = 50;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private ProfileService profileService;
+    private ProjectDto projectDto;
+    private ProfileDto profileDto;
+    private final List<Long> createdProjects = new ArrayList<>();
+    private final List<Long> createdProfiles = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + env("DB_URL", DEFAULT_DB_URL),
+                        "spring.datasource.username=" + env("DB_USER", "user"),
+                        "spring.datasource.password=" + env("DB_PASSWORD", "userpassword"),
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "app.upload.image-dir=" + Files.createTempDirectory("benchmark-images"),
+                        "logging.level.root=WARN")
+                .run();
+        projectService = context.getBean(ProjectService.class);
+        profileService = context.getBean(ProfileService.class);
+        projectDto = project();
+        profileDto = profile();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreated() {
+        createdProjects.forEach(projectService::deleteProject);
+        createdProfiles.forEach(profileService::deleteProfile);
+        createdProjects.clear();
+        createdProfiles.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProjectDto createProjectWithFiles() throws IOException {
+        ProjectDto created = projectService.createProjectWithFiles(projectDto, List.of(), null, List.of(), List.of());
+        createdProjects.add(created.getId());
+        return created;
+    }
+
+    @Benchmark
+    public ProfileDto createProfile() {
+        ProfileDto created = profileService.createProfile(profileDto);
+        createdProfiles.add(created.getId());
+        return created;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static ProjectDto project() {
+        List<ProjectDto.TroubleShootingDto> troubleshooting = new ArrayList<>();
+        for (int i = 0; i < TROUBLESHOOTING_COUNT; i++) {
+            troubleshooting.add(ProjectDto.TroubleShootingDto.builder()
+                    .title("Troubleshooting " + i)
+                    .description("Root cause and fix for issue " + i)
+                    .build());
+        }
+        return ProjectDto.builder()
+                .name("Benchmark project")
+                .summary("Aggregate insert benchmark")
+                .description("Project with many troubleshooting entries")
+                .technologies(List.of("Java", "Spring Boot", "MySQL"))
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 6, 30))
+                .troubleshooting(troubleshooting)
+                .build();
+    }
+
+    private static ProfileDto profile() {
+        List<ProfileDto.SkillDto> skills = new ArrayList<>();
+        for (int i = 0; i < SKILL_COUNT; i++) {
+            skills.add(ProfileDto.SkillDto.builder()
+                    .name("Skill " + i)
+                    .level(i % 5 + 1)
+                    .category("Category " + i % 4)
+                    .build());
+        }
+        return ProfileDto.builder()
+                .name("Benchmark")
+                .title("Aggregate insert benchmark")
+                .skills(skills)
+                .build();
+    }
+}
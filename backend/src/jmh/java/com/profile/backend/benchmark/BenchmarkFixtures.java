@@ -0,0 +1,205 @@
+package com.profile.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profile.backend.dto.ProjectDto;
+import com.profile.backend.entity.*;
+import com.profile.backend.repository.ProfileRepository;
+import com.profile.backend.repository.ProjectCardRepository;
+import com.profile.backend.service.ContentVersions;
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.ImageVariantService;
+import com.profile.backend.service.impl.ImageStorageImpl;
+import com.profile.backend.service.impl.ImageVariantServiceImpl;
+import com.profile.backend.service.impl.ProfileServiceImpl;
+import com.profile.backend.service.impl.ProjectServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 벤치마크용 고정 데이터와 DB 없이 동작하는 서비스 구성
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    // 애플리케이션과 같은 설정(Spring Boot 기본값)의 ObjectMapper
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static ImageVariantService imageVariantService() {
+        return new ImageVariantServiceImpl(List.of(160, 480, 1080));
+    }
+
+    // 빈 임시 업로드 디렉토리의 저장소 (축소본 너비 조회의 파일시스템 확인 비용 포함)
+    static ImageStorage imageStorage() {
+        try {
+            return new ImageStorageImpl(Files.createTempDirectory("benchmark-images").toString(), imageVariantService(),
+                    new SimpleMeterRegistry());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 목록 읽기 모델 조회 결과를 고정 카드로 대신하는 서비스 (카드 변환 비용만 측정)
+    static ProjectServiceImpl projectService(List<Project> projects) {
+        ObjectMapper objectMapper = objectMapper();
+        ProjectCardRepository cardRepository = stub(ProjectCardRepository.class);
+        when(cardRepository.findAllByOrderByIdAsc()).thenReturn(cards(projects, objectMapper));
+        return service(ProjectServiceImpl.class, cardRepository, objectMapper, new ContentVersions());
+    }
+    
+    // ProjectServiceImpl 이 저장하는 것과 같은 형태의 카드 (목록 필드만, 버전 제외, 고정 데이터의 이미지 파일이 없으므로 축소본 너비 없음)
+    private static List<ProjectCard> cards(List<Project> projects, ObjectMapper objectMapper) {
+        List<ProjectCard> cards = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            ProjectDto card = ProjectDto.builder()
+                    .id(project.getId())
+                    .name(project.getTitle())
+                    .summary(project.getSummary())
+                    .technologies(project.getTechnologies())
+                    .thumbnail(project.getThumbnail())
+                    .github(project.getGithub())
+                    .website(project.getWebsite())
+                    .startDate(project.getStartDate())
+                    .endDate(project.getEndDate())
+                    .build();
+            try {
+                cards.add(new ProjectCard(project.getId(), objectMapper.writeValueAsString(card)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return cards;
+    }
+
+    static ProfileServiceImpl profileService(Profile profile) {
+        // save 는 인자를 그대로 반환
+        ProfileRepository repository = stub(ProfileRepository.class);
+        when(repository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(repository.save(any(Profile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return service(ProfileServiceImpl.class, repository, imageStorage(), new ContentVersions());
+    }
+
+    // 생성자 주입으로 서비스 구성: 인자마다 타입이 맞는 collaborators 를 쓰고, 없으면 stub 을 넣음
+    // (생성자 인자의 순서나 개수가 바뀌어도 벤치마크 구성은 그대로)
+    private static <T> T service(Class<T> type, Object... collaborators) {
+        Constructor<T> constructor = BeanUtils.getResolvableConstructor(type);
+        Object[] args = Arrays.stream(constructor.getParameterTypes())
+                .map(parameter -> Arrays.stream(collaborators)
+                        .filter(parameter::isInstance)
+                        .findFirst()
+                        .orElseGet(() -> stub(parameter)))
+                .toArray();
+        return BeanUtils.instantiateClass(constructor, args);
+    }
+
+    // 지정하지 않은 메서드는 기본값(null, 빈 컬렉션, Optional.empty 등)을 반환하는 mock
+    // 호출 기록을 남기지 않아(stubOnly) 측정 중 호출 비용과 메모리 증가가 작음
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            projects.add(project(i));
+        }
+        return projects;
+    }
+
+    static Project project(long id) {
+        Project project = new Project();
+        project.setId(id);
+        project.setVersion(1L);
+        project.setTitle("Project " + id);
+        project.setSummary("Portfolio project number " + id + " with a short summary line");
+        project.setDescription("Longer description of project " + id + ". ".repeat(20));
+        project.setThumbnail("/api/images/" + Long.toHexString(id * 31) + ".png");
+        project.setGithub("https://github.com/example/project-" + id);
+        project.setWebsite("https://project-" + id + ".example.com");
+        project.setStartDate(LocalDate.of(2023, 1, (int) (id % 28) + 1));
+        project.setEndDate(LocalDate.of(2024, 6, (int) (id % 28) + 1));
+        project.getTechnologies().addAll(List.of("Java", "Spring Boot", "MySQL", "React", "Docker"));
+        for (int i = 0; i < 4; i++) {
+            project.getImages().add("/api/images/" + Long.toHexString(id * 31 + i) + ".jpg");
+        }
+        for (long i = 0; i < 3; i++) {
+            TroubleShooting troubleShooting = new TroubleShooting();
+            troubleShooting.setId(id * 10 + i);
+            troubleShooting.setTitle("Issue " + i);
+            troubleShooting.setDescription("What went wrong and how it was fixed. ".repeat(5));
+            troubleShooting.setImage("/api/images/ts-" + id + "-" + i + ".png");
+            troubleShooting.setProject(project);
+            project.getTroubleshooting().add(troubleShooting);
+        }
+        return project;
+    }
+
+    // 하위 컬렉션마다 itemCount 개의 항목을 가진 프로필
+    static Profile profile(int itemCount) {
+        Profile profile = new Profile();
+        profile.setId(1L);
+        profile.setVersion(1L);
+        profile.setName("Hong Gildong");
+        profile.setTitle("Backend Developer");
+        profile.setBio("Short biography. ".repeat(30));
+        profile.setEmail("dev@example.com");
+        profile.setImage("/api/images/profile.png");
+        profile.setPhone("010-0000-0000");
+        profile.setAddress("Seoul");
+        profile.setPrimary(true);
+        for (long i = 0; i < itemCount; i++) {
+            Career career = new Career();
+            career.setId(i);
+            career.setCompany("Company " + i);
+            career.setPosition("Engineer");
+            career.setPeriod("2020.01 - 2022.12");
+            career.setDescription("Worked on services. ".repeat(5));
+            career.setProfile(profile);
+            profile.getCareers().add(career);
+
+            Education education = new Education();
+            education.setId(i);
+            education.setInstitution("University " + i);
+            education.setDegree("B.S. Computer Science");
+            education.setPeriod("2014.03 - 2018.02");
+            education.setDescription("Studied algorithms.");
+            education.setProfile(profile);
+            profile.getEducations().add(education);
+
+            Skill skill = new Skill();
+            skill.setId(i);
+            skill.setName("Skill " + i);
+            skill.setLevel((int) (i % 5) + 1);
+            skill.setCategory("Backend");
+            skill.setProfile(profile);
+            profile.getSkills().add(skill);
+
+            Social social = new Social();
+            social.setId(i);
+            social.setPlatform("Platform " + i);
+            social.setUrl("https://social.example.com/" + i);
+            social.setIcon("icon-" + i);
+            social.setProfile(profile);
+            profile.getSocials().add(social);
+        }
+        return profile;
+    }
+}
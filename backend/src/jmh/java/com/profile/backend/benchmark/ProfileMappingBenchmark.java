@@ -0,0 +1,50 @@
+package com.profile.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profile.backend.dto.ProfileDto;
+import com.profile.backend.service.impl.ProfileServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 프로필 응답의 CPU 비용: 하위 컬렉션이 큰 프로필의 매핑(mapToDto/mapToEntity)과 JSON 직렬화
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileMappingBenchmark {
+
+    // 경력/학력/기술/소셜 컬렉션별 항목 수
+    @Param({"10", "1000"})
+    private int itemCount;
+
+    private ProfileServiceImpl profileService;
+    private ObjectMapper objectMapper;
+    private ProfileDto profileDto;
+
+    @Setup
+    public void setUp() {
+        profileService = BenchmarkFixtures.profileService(BenchmarkFixtures.profile(itemCount));
+        objectMapper = BenchmarkFixtures.objectMapper();
+        profileDto = profileService.getProfile(1L);
+    }
+
+    @Benchmark
+    public ProfileDto mapToDto() {
+        return profileService.getProfile(1L);
+    }
+
+    // mapToEntity 후 저장 결과를 다시 mapToDto (저장소는 인자를 그대로 반환)
+    @Benchmark
+    public ProfileDto mapToEntityAndBack() {
+        return profileService.createProfile(profileDto);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(profileDto);
+    }
+}
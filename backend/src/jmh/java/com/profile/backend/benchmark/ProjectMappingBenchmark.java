@@ -0,0 +1,50 @@
+package com.profile.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profile.backend.dto.ProjectDto;
+import com.profile.backend.service.impl.ProjectServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 프로젝트 목록 응답의 CPU 비용: 목록 읽기 모델 카드(JSON) -> DTO 변환과 JSON 직렬화
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int projectCount;
+
+    private ProjectServiceImpl projectService;
+    private ObjectMapper objectMapper;
+    private List<ProjectDto> projectDtos;
+
+    @Setup
+    public void setUp() {
+        projectService = BenchmarkFixtures.projectService(BenchmarkFixtures.projects(projectCount));
+        objectMapper = BenchmarkFixtures.objectMapper();
+        projectDtos = projectService.getAllProjects();
+    }
+
+    @Benchmark
+    public List<ProjectDto> mapToDto() {
+        return projectService.getAllProjects();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projectDtos);
+    }
+
+    // GET /api/projects 응답 생성 전체 (매핑 + 직렬화)
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projectService.getAllProjects());
+    }
+}
@@ -0,0 +1,64 @@
+package com.profile.backend.config;
+
+import com.profile.backend.entity.IdGenerators;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+// IDENTITY(AUTO_INCREMENT)로 저장된 기존 행과 겹치지 않도록 id 발급 테이블을 기존 최대 id 이후로 맞춤
+// 스키마 갱신(EntityManagerFactory 생성) 후, 웹 서버가 요청을 받기 전에 실행
+@Component
+public class IdGeneratorSeeder implements SmartInitializingSingleton {
+
+    private static final Logger logger = Logger.getLogger(IdGeneratorSeeder.class.getName());
+
+    // @TableGenerator pkColumnValue (= 테이블명)
+    private static final List<String> TABLES = List.of(
+            "profiles", "careers", "educations", "skills", "socials", "projects", "troubleshooting");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // entityManagerFactory: ddl-auto 로 id_generators 테이블이 만들어진 뒤 실행되도록 의존
+    public IdGeneratorSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String table : TABLES) {
+            seed(table);
+        }
+    }
+
+    private void seed(String table) {
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        if (maxId == 0) {
+            // 빈 테이블은 Hibernate 가 초기값부터 발급
+            return;
+        }
+
+        // pooled 방식은 저장된 값 v 에서 (v - ALLOCATION_SIZE, v] 범위를 발급하므로 범위 시작이 maxId 보다 커야 함
+        long required = maxId + IdGenerators.ALLOCATION_SIZE + 1;
+        List<Long> current = jdbcTemplate.queryForList(
+                "select " + IdGenerators.VALUE_COLUMN + " from " + IdGenerators.TABLE
+                        + " where " + IdGenerators.NAME_COLUMN + " = ?",
+                Long.class, table);
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update("insert into " + IdGenerators.TABLE
+                    + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") values (?, ?)",
+                    table, required);
+        } else if (current.get(0) < required) {
+            jdbcTemplate.update("update " + IdGenerators.TABLE + " set " + IdGenerators.VALUE_COLUMN + " = ?"
+                    + " where " + IdGenerators.NAME_COLUMN + " = ? and " + IdGenerators.VALUE_COLUMN + " < ?",
+                    required, table, required);
+        } else {
+            return;
+        }
+        logger.info("id 발급 시작값 조정: " + table + " -> " + required);
+    }
+}
@@ -0,0 +1,58 @@
+package com.profile.backend.config;
+
+import com.profile.backend.service.ImageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+// 평면 업로드 디렉토리의 이미지를 해시 분산 디렉토리로 옮기는 온라인 마이그레이션
+// 서비스 중에 batch-size 개씩 batch-pause 간격으로 이동하며, 조회는 이동 전/후 위치를 모두 확인하므로 URL 은 그대로 동작
+// 이후 예전 구조로 복원된 파일도 옮기도록 주기적으로 다시 확인 (옮길 파일이 없으면 디렉토리 목록 한 번만 읽음)
+@Component
+public class ImageLayoutMigration {
+
+    private static final Logger logger = Logger.getLogger(ImageLayoutMigration.class.getName());
+
+    private final ImageStorage imageStorage;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration batchPause;
+
+    public ImageLayoutMigration(ImageStorage imageStorage,
+                                @Value("${app.upload.layout-migration.enabled:true}") boolean enabled,
+                                @Value("${app.upload.layout-migration.batch-size:500}") int batchSize,
+                                @Value("${app.upload.layout-migration.batch-pause:PT0.2S}") Duration batchPause) {
+        this.imageStorage = imageStorage;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+    }
+
+    @Scheduled(initialDelayString = "${app.upload.layout-migration.initial-delay:PT30S}",
+            fixedDelayString = "${app.upload.layout-migration.interval:PT1H}")
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        int total = 0;
+        try {
+            int moved;
+            while ((moved = imageStorage.migrateLegacyLayout(batchSize)) > 0) {
+                total += moved;
+                logger.info("이미지 디렉토리 구조 변환 중: " + total + "개 이동");
+                Thread.sleep(batchPause.toMillis());
+            }
+        } catch (IOException e) {
+            logger.warning("Image layout migration failed after " + total + " files: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (total > 0) {
+            logger.info("이미지 디렉토리 구조 변환 완료: " + total + "개 이동");
+        }
+    }
+}
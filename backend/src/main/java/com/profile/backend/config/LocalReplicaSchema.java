@@ -0,0 +1,44 @@
+package com.profile.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.logging.Logger;
+
+// 로컬 읽기/쓰기 분리 모드: primary H2 DB 에 만들어진 스키마(데이터 제외)를 replica H2 DB 에 복사
+// 복제는 하지 않으므로 replica 에서 처리된 조회는 빈 결과로 구분됨
+@Component
+@Profile("replica-local")
+public class LocalReplicaSchema implements SmartInitializingSingleton {
+
+    private static final Logger logger = Logger.getLogger(LocalReplicaSchema.class.getName());
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+
+    // entityManagerFactory: ddl-auto 로 primary 스키마가 만들어진 뒤 실행되도록 의존
+    public LocalReplicaSchema(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                              @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                              EntityManagerFactory entityManagerFactory) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // H2 SCRIPT NODATA: 스키마를 다시 만드는 SQL 문 목록
+        List<String> statements = primary.queryForList("SCRIPT NODATA", String.class);
+        for (String statement : statements) {
+            if (!statement.startsWith("CREATE USER")) {
+                replica.execute(statement);
+            }
+        }
+        logger.info("replica 스키마 복사 완료: " + statements.size() + "개 문");
+    }
+}
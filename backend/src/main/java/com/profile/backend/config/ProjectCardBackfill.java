@@ -0,0 +1,36 @@
+package com.profile.backend.config;
+
+import com.profile.backend.service.ProjectService;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.logging.Logger;
+
+// 목록 읽기 모델(project_cards) 도입 전에 저장되었거나 DB 에서 직접 추가된 프로젝트의 카드를 채우고
+// 이전 형식(ProjectCard.FORMAT)으로 기록된 카드를 다시 기록
+// 웹 서버가 요청을 받기 전에 실행되므로 목록에서 빠지는 프로젝트가 없음
+@Component
+public class ProjectCardBackfill implements SmartInitializingSingleton {
+
+    private static final Logger logger = Logger.getLogger(ProjectCardBackfill.class.getName());
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ProjectService projectService;
+    private final ProjectDateColumnMigration dateColumnMigration;
+
+    public ProjectCardBackfill(ProjectService projectService, ProjectDateColumnMigration dateColumnMigration) {
+        this.projectService = projectService;
+        this.dateColumnMigration = dateColumnMigration;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 변환 전 문자열 기간 컬럼으로 카드를 만들지 않도록 먼저 변환
+        dateColumnMigration.migrate();
+        int written = projectService.writeStaleProjectCards(BATCH_SIZE);
+        if (written > 0) {
+            logger.info("프로젝트 카드 기록: " + written);
+        }
+    }
+}
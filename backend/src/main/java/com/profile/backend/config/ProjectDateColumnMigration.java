@@ -0,0 +1,52 @@
+package com.profile.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+// 문자열(VARCHAR)로 저장되던 프로젝트 기간을 DATE 컬럼으로 변환
+// (ddl-auto=update 는 기존 컬럼의 타입을 바꾸지 않음, 기존 값은 yyyy-MM-dd 형식)
+// 스키마 갱신(EntityManagerFactory 생성) 후, 웹 서버가 요청을 받기 전에 실행
+// SmartInitializingSingleton 호출 순서는 보장되지 않으므로 카드 생성(ProjectCardBackfill)은 시작 전에 migrate() 를 직접 호출
+@Component
+public class ProjectDateColumnMigration implements SmartInitializingSingleton {
+
+    private static final Logger logger = Logger.getLogger(ProjectDateColumnMigration.class.getName());
+
+    private final JdbcTemplate jdbcTemplate;
+    private boolean migrated;
+
+    // entityManagerFactory: ddl-auto 로 projects 테이블이 갱신된 뒤 실행되도록 의존
+    public ProjectDateColumnMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    // 한 번만 실행 (이미 DATE 컬럼이면 아무것도 하지 않음)
+    public synchronized void migrate() {
+        if (migrated) {
+            return;
+        }
+        migrated = true;
+
+        List<String> legacyColumns = jdbcTemplate.queryForList(
+                "select column_name from information_schema.columns"
+                        + " where table_schema = database() and table_name = 'projects'"
+                        + " and column_name in ('start_date', 'end_date') and data_type <> 'date'",
+                String.class);
+        if (legacyColumns.isEmpty()) {
+            return;
+        }
+
+        logger.info("프로젝트 기간 컬럼을 DATE 타입으로 변환: " + legacyColumns);
+        jdbcTemplate.execute("alter table projects modify start_date date not null, modify end_date date not null");
+    }
+}
@@ -0,0 +1,28 @@
+package com.profile.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.BooleanSupplier;
+
+// 읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖의 작업은 primary 로 연결
+// 트랜잭션 시작 후(읽기 전용 여부가 정해진 뒤) 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    // true 이면 읽기 전용 트랜잭션도 primary 로 연결 (방금 커밋된 쓰기가 복제본에 아직 없을 수 있는 동안)
+    private final BooleanSupplier pinnedToPrimary;
+
+    ReadOnlyRoutingDataSource(BooleanSupplier pinnedToPrimary) {
+        this.pinnedToPrimary = pinnedToPrimary;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !pinnedToPrimary.getAsBoolean()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
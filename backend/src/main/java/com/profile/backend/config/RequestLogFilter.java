@@ -0,0 +1,80 @@
+package com.profile.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// 느린 요청과 표본 추출된 요청만 실행한 SQL 목록과 함께 한 줄 요약으로 기록
+// 모든 요청/SQL 을 콘솔에 쓰는 대신 진단에 필요한 요청만 남김
+@Component
+@Order(SqlMetricsConfig.FILTER_ORDER + 1)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = Logger.getLogger(RequestLogFilter.class.getName());
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+
+    public RequestLogFilter(@Value("${app.request-log.slow-threshold-ms:500}") long slowThresholdMs,
+                            @Value("${app.request-log.sample-rate:0.01}") double sampleRate) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            boolean slow = elapsed >= slowThresholdNanos;
+            if (slow || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log(request, response, elapsed, slow);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long elapsed, boolean slow) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RequestSql sql = RequestSql.current();
+
+        StringBuilder message = new StringBuilder(256)
+                .append(slow ? "slow-request" : "sampled-request")
+                .append(" method=").append(request.getMethod())
+                .append(" path=").append(request.getRequestURI())
+                .append(" uri=").append(pattern != null ? pattern : "UNKNOWN")
+                .append(" status=").append(response.getStatus())
+                .append(" durationMs=").append(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        if (sql != null) {
+            List<String> statements = sql.statements();
+            message.append(" sqlCount=").append(sql.count());
+            for (int i = 0; i < statements.size(); i++) {
+                message.append("\n  sql[").append(i).append("] ").append(statements.get(i));
+            }
+            if (sql.count() > statements.size()) {
+                message.append("\n  ... ").append(sql.count() - statements.size()).append(" more");
+            }
+        }
+        logger.log(slow ? Level.WARNING : Level.INFO, message.toString());
+    }
+}
@@ -0,0 +1,50 @@
+package com.profile.backend.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 현재 요청 스레드에서 실행된 SQL 문 (StatementInspector 가 기록, 요청 필터가 시작/종료)
+// 로그에 남길 문장은 앞에서부터 maxCaptured 개까지만 보관하고 개수는 모두 셈
+final class RequestSql {
+
+    private static final ThreadLocal<RequestSql> CURRENT = new ThreadLocal<>();
+
+    private final int maxCaptured;
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+
+    private RequestSql(int maxCaptured) {
+        this.maxCaptured = maxCaptured;
+    }
+
+    static RequestSql start(int maxCaptured) {
+        RequestSql sql = new RequestSql(maxCaptured);
+        CURRENT.set(sql);
+        return sql;
+    }
+
+    // 요청 밖(스케줄러, 시작 시 작업 등)에서는 null
+    static RequestSql current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql) {
+        count++;
+        if (statements.size() < maxCaptured) {
+            statements.add(sql);
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    List<String> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
@@ -0,0 +1,69 @@
+package com.profile.backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 로거 이름(접두사)별로 WARN 미만 로그를 지정한 비율만 남기는 Logback 필터 (logback-spring.xml 에서 등록)
+// categories 형식: "org.springframework.web=0.01,org.hibernate=0.1" (가장 긴 접두사 우선, WARN 이상은 항상 기록)
+public class SamplingTurboFilter extends TurboFilter {
+
+    private record Category(String prefix, double rate) {}
+
+    private final List<Category> categories = new ArrayList<>();
+    // 로거 이름별 적용 비율 (설정된 범주에 속하지 않으면 1)
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+
+    public void setCategories(String value) {
+        categories.clear();
+        rates.clear();
+        if (value == null) {
+            return;
+        }
+        for (String entry : value.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            try {
+                double rate = Double.parseDouble(entry.substring(eq + 1).trim());
+                categories.add(new Category(entry.substring(0, eq).trim(), Math.max(0, Math.min(1, rate))));
+            } catch (NumberFormatException e) {
+                addWarn("Invalid sampling rate: " + entry);
+            }
+        }
+        categories.sort(Comparator.comparingInt((Category c) -> c.prefix().length()).reversed());
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // 레벨 때문에 어차피 버려질 로그나 WARN 이상은 판단하지 않음
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = rates.computeIfAbsent(logger.getName(), this::rateFor);
+        if (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private double rateFor(String loggerName) {
+        for (Category category : categories) {
+            String prefix = category.prefix();
+            if (loggerName.equals(prefix) || loggerName.startsWith(prefix + ".")) {
+                return category.rate();
+            }
+        }
+        return 1;
+    }
+}
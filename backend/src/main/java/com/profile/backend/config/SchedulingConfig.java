@@ -0,0 +1,10 @@
+package com.profile.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 백그라운드 작업 활성화 (참조되지 않는 이미지 정리 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
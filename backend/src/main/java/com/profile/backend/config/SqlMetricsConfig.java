@@ -0,0 +1,76 @@
+package com.profile.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청 하나가 실행한 SQL 문 수를 엔드포인트별 분포(app.sql.statements)로 기록
+// Hibernate 전역 통계로는 N+1 처럼 특정 요청에서만 늘어나는 쿼리 수를 구분할 수 없어 요청 단위로 집계
+@Configuration
+public class SqlMetricsConfig {
+
+    // RequestLogFilter 보다 바깥에서 실행되어야 요청 로그가 SQL 목록을 읽을 수 있음
+    static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounter() {
+        StatementInspector inspector = sql -> {
+            RequestSql current = RequestSql.current();
+            if (current != null) {
+                current.record(sql);
+            }
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> sqlStatementMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.request-log.max-statements:50}") int maxStatements) {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                RequestSql sql = RequestSql.start(maxStatements);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    RequestSql.end();
+                    // URI 템플릿으로 태그 (경로 변수별로 메트릭이 늘어나지 않도록)
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    DistributionSummary.builder("app.sql.statements")
+                            .description("SQL statements executed per HTTP request")
+                            .tag("method", request.getMethod())
+                            .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                            .register(meterRegistry)
+                            .record(sql.count());
+                }
+            }
+
+            // actuator 스크레이프 요청은 집계하지 않음
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return request.getRequestURI().startsWith("/actuator");
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
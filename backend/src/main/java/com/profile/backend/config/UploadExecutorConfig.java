@@ -0,0 +1,41 @@
+package com.profile.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class UploadExecutorConfig {
+
+    // 업로드 이미지 저장용 스레드 풀 (크기와 대기열이 제한되며, 가득 차면 요청 스레드에서 직접 처리)
+    @Bean(name = "imageUploadExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${app.upload.executor.pool-size:4}") int poolSize,
+            @Value("${app.upload.executor.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 가상 스레드 모드: 작업마다 가상 스레드 생성 (동시 실행 수는 pool-size로 제한, 초과 시 요청 스레드가 대기)
+    @Bean(name = "imageUploadExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualImageUploadExecutor(
+            @Value("${app.upload.executor.pool-size:4}") int poolSize) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("image-upload-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize);
+        return executor;
+    }
+}
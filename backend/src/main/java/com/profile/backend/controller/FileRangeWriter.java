@@ -0,0 +1,208 @@
+package com.profile.backend.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 파일을 Range 요청(206 Partial Content)을 지원하며 전송
+// Tomcat sendfile을 사용할 수 있으면 커널에서 직접 전송하고, 아니면 FileChannel.transferTo로 전송
+@Component
+public class FileRangeWriter {
+    
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    // 작은 파일은 sendfile 설정 비용이 더 크므로 일반 전송 (Tomcat 기본값과 동일)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+    
+    // 전송한 본문 바이트 수 (sendfile 로 넘긴 구간 포함)
+    private final Counter servedBytes;
+    
+    public FileRangeWriter(MeterRegistry meterRegistry) {
+        this.servedBytes = Counter.builder("app.images.served.bytes")
+                .description("Image bytes written to responses")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+    
+    public void write(Path path, String contentType, String etag, long lastModified,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = Files.size(path);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        
+        List<HttpRange> ranges;
+        try {
+            ranges = matchesIfRange(request, etag, lastModified)
+                    ? HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE))
+                    : List.of();
+        } catch (IllegalArgumentException e) {
+            sendRangeNotSatisfiable(response, length);
+            return;
+        }
+        
+        boolean head = "HEAD".equals(request.getMethod());
+        
+        // 전체 파일
+        if (ranges.isEmpty()) {
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!head) {
+                send(path, 0, length, request, response);
+            }
+            return;
+        }
+        
+        // 파일 길이를 벗어난 구간은 제외하고 나머지만 전송 (만족할 수 있는 구간이 하나도 없을 때만 416)
+        List<Segment> segments;
+        try {
+            List<HttpRange> satisfiable = ranges.stream()
+                    .filter(range -> range.getRangeStart(length) < length)
+                    .toList();
+            if (satisfiable.isEmpty()) {
+                sendRangeNotSatisfiable(response, length);
+                return;
+            }
+            segments = coalesce(satisfiable, length);
+        } catch (IllegalArgumentException e) {
+            sendRangeNotSatisfiable(response, length);
+            return;
+        }
+        
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        
+        // 단일 구간
+        if (segments.size() == 1) {
+            long start = segments.get(0).start();
+            long end = segments.get(0).end();
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, length));
+            response.setContentLengthLong(end - start + 1);
+            if (!head) {
+                send(path, start, end - start + 1, request, response);
+            }
+            return;
+        }
+        
+        // 다중 구간 (multipart/byteranges)
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        if (head) {
+            return;
+        }
+        
+        ServletOutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            for (Segment segment : segments) {
+                long start = segment.start();
+                long end = segment.end();
+                String partHeader = "\r\n--" + boundary + "\r\n"
+                        + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                        + HttpHeaders.CONTENT_RANGE + ": " + contentRange(start, end, length) + "\r\n\r\n";
+                out.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+                transfer(channel, start, end - start + 1, target);
+                servedBytes.increment(end - start + 1);
+            }
+            out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+    
+    // 겹치거나 맞닿은 구간을 합쳐 시작 위치 순으로 정렬 (bytes=0-,0-,... 처럼 같은 구간을 반복해
+    // 응답이 파일 크기의 몇 배가 되지 않도록, 합친 뒤에는 각 바이트를 최대 한 번만 전송)
+    private List<Segment> coalesce(List<HttpRange> ranges, long length) {
+        List<Segment> sorted = new ArrayList<>(ranges.size());
+        for (HttpRange range : ranges) {
+            sorted.add(new Segment(range.getRangeStart(length), range.getRangeEnd(length)));
+        }
+        sorted.sort(Comparator.comparingLong(Segment::start));
+        
+        List<Segment> merged = new ArrayList<>(sorted.size());
+        for (Segment segment : sorted) {
+            Segment last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && segment.start() <= last.end() + 1) {
+                merged.set(merged.size() - 1, new Segment(last.start(), Math.max(last.end(), segment.end())));
+            } else {
+                merged.add(segment);
+            }
+        }
+        return merged;
+    }
+    
+    // If-Range 가 없거나 현재 ETag/수정 시각과 일치할 때만 Range 적용
+    private boolean matchesIfRange(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+        return since != -1 && lastModified / 1000 == since / 1000;
+    }
+    
+    private void send(Path path, long start, long count, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 Tomcat이 sendfile로 직접 전송 (end는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            servedBytes.increment(count);
+            return;
+        }
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+        servedBytes.increment(count);
+    }
+    
+    // transferTo는 한 번에 요청한 만큼 전송하지 않을 수 있으므로 반복
+    private void transfer(FileChannel channel, long start, long count, WritableByteChannel target) throws IOException {
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                throw new IOException("Failed to transfer file content at position " + position);
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+    
+    private void sendRangeNotSatisfiable(HttpServletResponse response, long length) {
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+    }
+    
+    private String contentRange(long start, long end, long length) {
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+    
+    // 전송 구간 [start, end] (end 포함)
+    private record Segment(long start, long end) {
+    }
+}
\ No newline at end of file
@@ -1,31 +1,48 @@
 package com.profile.backend.controller;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.ImageVariantService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/images")
+@RequiredArgsConstructor
 public class ImageController {
     
     private static final Logger logger = Logger.getLogger(ImageController.class.getName());
     
-    @Value("${app.upload.image-dir}")
-    private String uploadDir;
+    // 업로드 파일명이 내용 해시(이전 업로드는 타임스탬프)이므로 내용이 바뀌지 않아 장기 캐시
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic()
+            .immutable();
+    
+    // 축소본을 요청했지만 원본으로 대신 응답한 경우 (축소본 기능 이전에 올린 이미지 등)
+    // 이후 축소본이 생기면 받을 수 있도록 짧게 캐시하고, 만료 후에는 ETag 로 재검증
+    private static final CacheControl FALLBACK_CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.HOURS)
+            .cachePublic();
+    
+    private final ImageVariantService imageVariantService;
+    private final FileRangeWriter fileRangeWriter;
+    private final ImageStorage imageStorage;
+    private final MultipartStreamReader multipartStreamReader;
 
     @PostMapping("/upload")
     public ResponseEntity<?> uploadImage(@RequestParam("file") MultipartFile file) {
@@ -39,37 +56,17 @@ public class ImageController {
                 return ResponseEntity.badRequest().body("Invalid file name");
             }
 
-            // 디렉토리 확인 및 생성
-            File directory = new File(uploadDir);
-            if (!directory.exists()) {
-                boolean created = directory.mkdirs();
-                if (!created) {
-                    logger.severe("Failed to create upload directory: " + uploadDir);
-                    return ResponseEntity.internalServerError().body("Failed to create upload directory");
-                }
-            }
-
-            // 파일명 생성
-            String fileName = System.currentTimeMillis() + "_" + originalFilename.replaceAll("\\s+", "_");
-            String filePath = uploadDir + File.separator + fileName;
-
-            // 파일 저장
-            File dest = new File(filePath);
-            file.transferTo(dest);
-            logger.info("파일 저장 완료: " + filePath);
-
-            // 파일 권한 설정
-            dest.setReadable(true, false);
-            dest.setWritable(true, false);
-
-            // API URL 생성
-            String fileUrl = "/api/images/" + fileName;
+            // 내용 해시 기반으로 저장 (같은 이미지는 한 번만 저장)
+            String fileUrl = imageStorage.store(file);
+            String fileName = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
             
             // 성공 응답 반환 (JSON 객체로 반환)
             Map<String, String> response = new HashMap<>();
             response.put("fileName", fileName);
             response.put("fileUrl", fileUrl);
             response.put("originalName", originalFilename);
+            // 실제로 생성된 축소본 너비만 (작은 이미지, svg/gif 등은 빈 문자열)
+            response.put("widths", widths(fileUrl));
             
             return ResponseEntity.ok(response);
         } catch (IOException e) {
@@ -78,35 +75,80 @@ public class ImageController {
         }
     }
 
+    // 스트리밍 업로드: 파일이 요청 스트림에서 바로 저장소로 기록됨
+    @PostMapping(value = "/upload", headers = MultipartStreamReader.STREAM_MODE_HEADER)
+    public ResponseEntity<?> uploadImageStream(HttpServletRequest request) throws IOException {
+        StreamedUpload upload = multipartStreamReader.read(request);
+        String fileUrl = upload.imageUrl("file");
+        if (fileUrl == null) {
+            return ResponseEntity.badRequest().body("File is empty");
+        }
+        
+        Map<String, String> response = new HashMap<>();
+        response.put("fileName", fileUrl.substring(fileUrl.lastIndexOf('/') + 1));
+        response.put("fileUrl", fileUrl);
+        response.put("widths", widths(fileUrl));
+        
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{fileName:.+}")
-    public ResponseEntity<Resource> getImage(@PathVariable String fileName) {
+    public void getImage(@PathVariable String fileName,
+                         @RequestParam(value = "w", required = false) Integer width,
+                         HttpServletRequest request,
+                         HttpServletResponse response) {
         try {
-            logger.info("이미지 요청 받음: " + fileName);
-            logger.info("이미지 경로: " + uploadDir);
+            logger.fine(() -> "이미지 요청 받음: " + fileName);
             
-            String filePath = uploadDir + File.separator + fileName;
-            Path path = Paths.get(filePath);
+            Path path = imageStorage.resolve(fileName);
+            String filePath = String.valueOf(path);
             
-            if (!Files.exists(path)) {
+            if (path == null || !Files.exists(path)) {
                 logger.warning("File not found: " + filePath);
-                return ResponseEntity.notFound().build();
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
             }
 
-            Resource resource = new FileSystemResource(path.toFile());
+            // w 파라미터가 있으면 가장 가까운 축소본 제공
+            Path original = path;
+            path = imageVariantService.resolve(original, width);
+            boolean fallback = width != null && width > 0 && path.equals(original);
+            
             String contentType = determineContentType(fileName);
             
-            logger.info("이미지 찾음: " + filePath + ", ContentType: " + contentType);
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .body(resource);
+            logger.fine(() -> "이미지 찾음: " + filePath + ", ContentType: " + contentType);
+            
+            // 파일 크기와 수정 시각으로 강한 검증자 생성
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            String etag = "\"" + Long.toHexString(Files.size(path)) + "-" + Long.toHexString(lastModified) + "\"";
+            
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + path.getFileName() + "\"");
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    (fallback ? FALLBACK_CACHE_CONTROL : IMAGE_CACHE_CONTROL).getHeaderValue());
+            
+            // If-None-Match / If-Modified-Since 가 일치하면 본문 없이 304 응답 (ETag, Last-Modified 헤더도 설정됨)
+            if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+                return;
+            }
+            
+            // Range 요청 처리 및 sendfile/transferTo 전송
+            fileRangeWriter.write(path, contentType, etag, lastModified, request, response);
         } catch (Exception e) {
             logger.severe("Error serving file " + fileName + ": " + e.getMessage());
-            return ResponseEntity.internalServerError().build();
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
         }
     }
 
+    // 생성된 축소본 너비를 쉼표로 구분한 문자열
+    private String widths(String fileUrl) {
+        return imageStorage.variantWidths(fileUrl).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
     private String determineContentType(String fileName) {
         try {
             String contentType = Files.probeContentType(Paths.get(fileName));
@@ -0,0 +1,153 @@
+package com.profile.backend.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 자주 바뀌지 않는 조회 응답을 직렬화된 JSON과 gzip 압축본으로 보관
+// 데이터 버전이 같으면 Jackson 직렬화와 압축 없이 저장된 바이트를 그대로 응답
+@Component
+public class JsonResponseCache {
+
+    // 캐시 항목: 데이터 버전, JSON 본문, gzip 본문(압축 이득이 없으면 null), ETag(없으면 null)
+    private record Entry(long version, byte[] json, byte[] gzip, String etag) {}
+
+    // 접근 순서 LRU (조회도 순서를 바꾸므로 entries 로 동기화, 직렬화는 잠금 밖에서 수행)
+    private final Map<String, Entry> entries;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             @Value("${app.response-cache.max-entries:1000}") int maxEntries,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.entries = lruMap(maxEntries);
+        this.meterRegistry = meterRegistry;
+    }
+
+    // key 항목이 version 으로 저장되어 있으면 그대로, 아니면 loader 결과를 직렬화/압축해 저장 후 응답
+    public ResponseEntity<byte[]> respond(String key, long version, String etag,
+                                          HttpServletRequest request, Supplier<?> loader) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        boolean hit = entry != null && entry.version() == version;
+        requests(key, hit).increment();
+        if (!hit) {
+            entry = serialize(version, etag, loader.get());
+            synchronized (entries) {
+                entries.put(key, entry);
+            }
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (entry.etag() != null) {
+            response.eTag(entry.etag()).cacheControl(CacheControl.noCache());
+        }
+        if (entry.gzip() != null && acceptsGzip(request)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(entry.gzip().length)
+                    .body(entry.gzip());
+        }
+        return response.contentLength(entry.json().length).body(entry.json());
+    }
+
+    // 히트율 메트릭 (app.response.cache.requests{cache, result}), 항목 id 가 아닌 키 앞부분으로만 태그
+    private Counter requests(String key, boolean hit) {
+        int colon = key.indexOf(':');
+        return Counter.builder("app.response.cache.requests")
+                .description("Serialized response cache lookups")
+                .tag("cache", colon >= 0 ? key.substring(0, colon) : key)
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry);
+    }
+
+    // 가득 차면 가장 오래 사용하지 않은 항목 하나만 제거
+    private static <V> Map<String, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private Entry serialize(long version, String etag, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzip(json);
+            return new Entry(version, json, gzip.length < json.length ? gzip : null, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+    }
+
+    private byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // Accept-Encoding 에 gzip 이 있고 q=0 으로 거부되지 않았는지 확인
+    // gzip 을 직접 지정한 항목이 있으면 '*' 보다 우선 (gzip;q=0, * 은 거부)
+    private boolean acceptsGzip(HttpServletRequest request) {
+        Double gzip = null;
+        Double any = null;
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers.hasMoreElements()) {
+            for (String coding : headers.nextElement().split(",")) {
+                String[] parts = coding.trim().split(";");
+                String name = parts[0].trim();
+                if (name.equalsIgnoreCase("gzip")) {
+                    gzip = quality(parts);
+                } else if (name.equals("*")) {
+                    any = quality(parts);
+                }
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return any != null && any > 0;
+    }
+
+    // 항목의 q 값 (없거나 형식이 잘못되면 1)
+    private double quality(String[] parts) {
+        double quality = 1;
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim().replace(" ", "");
+            if (param.startsWith("q=")) {
+                try {
+                    quality = Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    quality = 1;
+                }
+            }
+        }
+        return quality;
+    }
+}
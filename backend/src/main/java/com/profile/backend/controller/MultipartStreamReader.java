@@ -0,0 +1,74 @@
+package com.profile.backend.controller;
+
+import com.profile.backend.exception.UploadTooLargeException;
+import com.profile.backend.service.ImageStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.tomcat.util.http.fileupload.FileItemIterator;
+import org.apache.tomcat.util.http.fileupload.FileItemStream;
+import org.apache.tomcat.util.http.fileupload.FileUpload;
+import org.apache.tomcat.util.http.fileupload.impl.SizeException;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletRequestContext;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+// multipart 요청 본문을 임시 디렉토리(/tmp)에 쓰지 않고 스트림에서 바로 읽어 파일은 저장소에 저장
+// Tomcat에 포함된 FileUpload 스트리밍 API 사용 (요청 본문을 미리 파싱하지 않도록 resolve-lazily 설정 필요)
+@Component
+public class MultipartStreamReader {
+    
+    // 스트리밍 업로드 핸들러 선택 조건 (요청 파라미터 조건은 본문 파싱을 유발하므로 헤더 사용)
+    public static final String STREAM_MODE_HEADER = "X-Upload-Mode=stream";
+    
+    private final ImageStorage imageStorage;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+    
+    public MultipartStreamReader(ImageStorage imageStorage, MultipartProperties multipartProperties) {
+        this.imageStorage = imageStorage;
+        this.maxFileSize = multipartProperties.getMaxFileSize().toBytes();
+        this.maxRequestSize = multipartProperties.getMaxRequestSize().toBytes();
+    }
+    
+    public StreamedUpload read(HttpServletRequest request) throws IOException {
+        // 크기 제한은 스트림을 읽는 중에 검사됨
+        FileUpload upload = new FileUpload();
+        upload.setFileSizeMax(maxFileSize);
+        upload.setSizeMax(maxRequestSize);
+        upload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+        
+        StreamedUpload result = new StreamedUpload();
+        try {
+            FileItemIterator items = upload.getItemIterator(new ServletRequestContext(request));
+            while (items.hasNext()) {
+                FileItemStream item = items.next();
+                try (InputStream in = item.openStream()) {
+                    if (item.isFormField()) {
+                        result.addField(item.getFieldName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                    } else {
+                        result.addFile(item.getFieldName(), imageStorage.save(in, item.getName()));
+                    }
+                }
+            }
+            return result;
+        } catch (IOException | RuntimeException e) {
+            // 이미 저장된 파일은 미사용 이미지 정리에서 삭제
+            if (isSizeExceeded(e)) {
+                throw new UploadTooLargeException("Upload exceeds the configured size limit", e);
+            }
+            throw e;
+        }
+    }
+    
+    private boolean isSizeExceeded(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SizeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
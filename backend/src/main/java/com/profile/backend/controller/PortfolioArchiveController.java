@@ -0,0 +1,44 @@
+package com.profile.backend.controller;
+
+import com.profile.backend.service.PortfolioArchiveService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+public class PortfolioArchiveController {
+    
+    private static final String ZIP_CONTENT_TYPE = "application/zip";
+    
+    private final PortfolioArchiveService portfolioArchiveService;
+    
+    // 전체 포트폴리오를 zip 으로 내려받기 (응답 스트림에 바로 기록, 서버에 임시 파일을 만들지 않음)
+    @GetMapping("/export")
+    public void exportArchive(HttpServletResponse response) throws IOException {
+        response.setContentType(ZIP_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("portfolio-" + LocalDate.now() + ".zip")
+                .build()
+                .toString());
+        portfolioArchiveService.exportArchive(response.getOutputStream());
+    }
+    
+    // 내보낸 zip 을 요청 본문으로 받아 가져오기 (multipart 가 아닌 원본 바이트, 요청 스트림에서 바로 읽음)
+    @PostMapping(value = "/import", consumes = {ZIP_CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<PortfolioArchiveService.ImportResult> importArchive(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(portfolioArchiveService.importArchive(request.getInputStream()));
+    }
+}
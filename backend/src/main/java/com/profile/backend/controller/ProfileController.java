@@ -1,30 +1,58 @@
 package com.profile.backend.controller;
 
 import com.profile.backend.dto.ProfileDto;
+import com.profile.backend.service.ContentVersions;
 import com.profile.backend.service.ProfileService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.logging.Logger;
 
 @RestController
 @RequestMapping("/api/profiles")
 @RequiredArgsConstructor
 public class ProfileController {
 
+    private static final Logger logger = Logger.getLogger(ProfileController.class.getName());
+
+    private static final String RESPONSE_PROFILE = "profile";
+    private static final String RESPONSE_CHILD = "child";
+    private static final String RESPONSE_NONE = "none";
+    
     private final ProfileService profileService;
+    private final MultipartStreamReader multipartStreamReader;
+    private final JsonResponseCache responseCache;
+    private final ContentVersions contentVersions;
     
     @GetMapping("/{id}")
-    public ResponseEntity<ProfileDto> getProfile(@PathVariable Long id) {
-        return ResponseEntity.ok(profileService.getProfile(id));
+    public ResponseEntity<byte[]> getProfile(@PathVariable Long id, WebRequest webRequest, HttpServletRequest request) {
+        // 클라이언트의 ETag가 현재 버전과 같으면 조회/직렬화 없이 304 응답
+        Long version = profileService.getProfileVersion(id);
+        if (webRequest.checkNotModified(versionTag(version))) {
+            return null;
+        }
+        
+        // 같은 버전의 직렬화된 응답이 있으면 그대로 사용
+        return responseCache.respond("profile:" + id, version, versionTag(version),
+                request, () -> profileService.getProfile(id));
     }
     
     @GetMapping
-    public ResponseEntity<ProfileDto> getFirstProfile() {
-        return ResponseEntity.ok(profileService.getFirstProfile());
+    public ResponseEntity<byte[]> getFirstProfile(HttpServletRequest request) {
+        return responseCache.respond("profile:first", contentVersions.current(ContentVersions.Area.PROFILES), null,
+                request, profileService::getFirstProfile);
+    }
+    
+    @PutMapping("/{id}/primary")
+    public ResponseEntity<ProfileDto> setPrimaryProfile(@PathVariable Long id) {
+        return ResponseEntity.ok(profileService.setPrimaryProfile(id));
     }
     
     @PostMapping
@@ -54,6 +82,22 @@ public class ProfileController {
         return ResponseEntity.ok(profileService.createProfileWithImage(profileDto, imageFile));
     }
     
+    // 스트리밍 업로드: 이미지가 요청 스트림에서 바로 저장소로 기록됨
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, headers = MultipartStreamReader.STREAM_MODE_HEADER)
+    public ResponseEntity<ProfileDto> createProfileWithImageStream(HttpServletRequest request) throws IOException, MissingServletRequestParameterException {
+        StreamedUpload upload = multipartStreamReader.read(request);
+        ProfileDto profileDto = ProfileDto.builder()
+                .name(requiredField(upload, "name"))
+                .title(requiredField(upload, "title"))
+                .bio(upload.field("bio"))
+                .email(upload.field("email"))
+                .phone(upload.field("phone"))
+                .address(upload.field("address"))
+                .build();
+        
+        return ResponseEntity.ok(profileService.createProfileWithImageUrl(profileDto, upload.imageUrl("imageFile")));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<ProfileDto> updateProfile(@PathVariable Long id, @RequestBody ProfileDto profileDto) {
         return ResponseEntity.ok(profileService.updateProfile(id, profileDto));
@@ -71,14 +115,9 @@ public class ProfileController {
             @RequestParam(value = "location", required = false) String location,
             @RequestParam(value = "imageFile", required = false) MultipartFile imageFile) throws IOException {
         
-        System.out.println("프로필 업데이트 요청 받음 (ID: " + id + ")");
-        System.out.println("name: " + name);
-        System.out.println("title: " + title);
-        System.out.println("bio: " + bio);
-        System.out.println("email: " + email);
-        System.out.println("phone: " + phone);
-        System.out.println("location: " + location);
-        System.out.println("imageFile: " + (imageFile != null ? (imageFile.isEmpty() ? "비어있음" : imageFile.getOriginalFilename()) : "null"));
+        // 개인 정보(이메일, 전화번호 등)는 남기지 않음
+        logger.fine(() -> "프로필 업데이트 요청 받음 (ID: " + id + ", imageFile: "
+                + (imageFile != null ? (imageFile.isEmpty() ? "비어있음" : imageFile.getOriginalFilename()) : "null") + ")");
         
         ProfileDto profileDto = ProfileDto.builder()
                 .name(name)
@@ -92,6 +131,22 @@ public class ProfileController {
         return ResponseEntity.ok(profileService.updateProfileWithImage(id, profileDto, imageFile));
     }
     
+    @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, headers = MultipartStreamReader.STREAM_MODE_HEADER)
+    public ResponseEntity<ProfileDto> updateProfileWithImageStream(@PathVariable Long id, HttpServletRequest request) throws IOException {
+        StreamedUpload upload = multipartStreamReader.read(request);
+        String address = upload.field("address");
+        ProfileDto profileDto = ProfileDto.builder()
+                .name(upload.field("name"))
+                .title(upload.field("title"))
+                .bio(upload.field("bio"))
+                .email(upload.field("email"))
+                .phone(upload.field("phone"))
+                .address(address != null ? address : upload.field("location"))
+                .build();
+        
+        return ResponseEntity.ok(profileService.updateProfileWithImageUrl(id, profileDto, upload.imageUrl("imageFile")));
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProfile(@PathVariable Long id) {
         profileService.deleteProfile(id);
@@ -100,69 +155,112 @@ public class ProfileController {
     
     // Career 엔드포인트
     @PostMapping("/{profileId}/careers")
-    public ResponseEntity<ProfileDto> addCareer(@PathVariable Long profileId, @RequestBody ProfileDto.CareerDto careerDto) {
-        return ResponseEntity.ok(profileService.addCareer(profileId, careerDto));
+    public ResponseEntity<?> addCareer(@PathVariable Long profileId, @RequestBody ProfileDto.CareerDto careerDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.addCareer(profileId, careerDto), response);
     }
     
     @PutMapping("/{profileId}/careers/{careerId}")
-    public ResponseEntity<ProfileDto> updateCareer(@PathVariable Long profileId, @PathVariable Long careerId, 
-                                                 @RequestBody ProfileDto.CareerDto careerDto) {
-        return ResponseEntity.ok(profileService.updateCareer(profileId, careerId, careerDto));
+    public ResponseEntity<?> updateCareer(@PathVariable Long profileId, @PathVariable Long careerId, 
+                                     @RequestBody ProfileDto.CareerDto careerDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.updateCareer(profileId, careerId, careerDto), response);
     }
     
     @DeleteMapping("/{profileId}/careers/{careerId}")
-    public ResponseEntity<ProfileDto> deleteCareer(@PathVariable Long profileId, @PathVariable Long careerId) {
-        return ResponseEntity.ok(profileService.deleteCareer(profileId, careerId));
+    public ResponseEntity<?> deleteCareer(@PathVariable Long profileId, @PathVariable Long careerId,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        profileService.deleteCareer(profileId, careerId);
+        return respond(profileId, null, response);
     }
     
     // Education 엔드포인트
     @PostMapping("/{profileId}/educations")
-    public ResponseEntity<ProfileDto> addEducation(@PathVariable Long profileId, @RequestBody ProfileDto.EducationDto educationDto) {
-        return ResponseEntity.ok(profileService.addEducation(profileId, educationDto));
+    public ResponseEntity<?> addEducation(@PathVariable Long profileId, @RequestBody ProfileDto.EducationDto educationDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.addEducation(profileId, educationDto), response);
     }
     
     @PutMapping("/{profileId}/educations/{educationId}")
-    public ResponseEntity<ProfileDto> updateEducation(@PathVariable Long profileId, @PathVariable Long educationId, 
-                                                    @RequestBody ProfileDto.EducationDto educationDto) {
-        return ResponseEntity.ok(profileService.updateEducation(profileId, educationId, educationDto));
+    public ResponseEntity<?> updateEducation(@PathVariable Long profileId, @PathVariable Long educationId, 
+                                     @RequestBody ProfileDto.EducationDto educationDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.updateEducation(profileId, educationId, educationDto), response);
     }
     
     @DeleteMapping("/{profileId}/educations/{educationId}")
-    public ResponseEntity<ProfileDto> deleteEducation(@PathVariable Long profileId, @PathVariable Long educationId) {
-        return ResponseEntity.ok(profileService.deleteEducation(profileId, educationId));
+    public ResponseEntity<?> deleteEducation(@PathVariable Long profileId, @PathVariable Long educationId,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        profileService.deleteEducation(profileId, educationId);
+        return respond(profileId, null, response);
     }
     
     // Skill 엔드포인트
     @PostMapping("/{profileId}/skills")
-    public ResponseEntity<ProfileDto> addSkill(@PathVariable Long profileId, @RequestBody ProfileDto.SkillDto skillDto) {
-        return ResponseEntity.ok(profileService.addSkill(profileId, skillDto));
+    public ResponseEntity<?> addSkill(@PathVariable Long profileId, @RequestBody ProfileDto.SkillDto skillDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.addSkill(profileId, skillDto), response);
     }
     
     @PutMapping("/{profileId}/skills/{skillId}")
-    public ResponseEntity<ProfileDto> updateSkill(@PathVariable Long profileId, @PathVariable Long skillId, 
-                                                @RequestBody ProfileDto.SkillDto skillDto) {
-        return ResponseEntity.ok(profileService.updateSkill(profileId, skillId, skillDto));
+    public ResponseEntity<?> updateSkill(@PathVariable Long profileId, @PathVariable Long skillId, 
+                                     @RequestBody ProfileDto.SkillDto skillDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.updateSkill(profileId, skillId, skillDto), response);
     }
     
     @DeleteMapping("/{profileId}/skills/{skillId}")
-    public ResponseEntity<ProfileDto> deleteSkill(@PathVariable Long profileId, @PathVariable Long skillId) {
-        return ResponseEntity.ok(profileService.deleteSkill(profileId, skillId));
+    public ResponseEntity<?> deleteSkill(@PathVariable Long profileId, @PathVariable Long skillId,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        profileService.deleteSkill(profileId, skillId);
+        return respond(profileId, null, response);
     }
     
     // Social 엔드포인트
     @PostMapping("/{profileId}/socials")
-    public ResponseEntity<ProfileDto> addSocial(@PathVariable Long profileId, @RequestBody ProfileDto.SocialDto socialDto) {
-        return ResponseEntity.ok(profileService.addSocial(profileId, socialDto));
+    public ResponseEntity<?> addSocial(@PathVariable Long profileId, @RequestBody ProfileDto.SocialDto socialDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.addSocial(profileId, socialDto), response);
     }
     
     @PutMapping("/{profileId}/socials/{socialId}")
-    public ResponseEntity<ProfileDto> updateSocial(@PathVariable Long profileId, @PathVariable Long socialId, 
-                                                 @RequestBody ProfileDto.SocialDto socialDto) {
-        return ResponseEntity.ok(profileService.updateSocial(profileId, socialId, socialDto));
+    public ResponseEntity<?> updateSocial(@PathVariable Long profileId, @PathVariable Long socialId, 
+                                     @RequestBody ProfileDto.SocialDto socialDto,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        return respond(profileId, profileService.updateSocial(profileId, socialId, socialDto), response);
     }
     
     @DeleteMapping("/{profileId}/socials/{socialId}")
-    public ResponseEntity<ProfileDto> deleteSocial(@PathVariable Long profileId, @PathVariable Long socialId) {
-        return ResponseEntity.ok(profileService.deleteSocial(profileId, socialId));
+    public ResponseEntity<?> deleteSocial(@PathVariable Long profileId, @PathVariable Long socialId,
+                                     @RequestParam(value = "response", defaultValue = RESPONSE_PROFILE) String response) {
+        profileService.deleteSocial(profileId, socialId);
+        return respond(profileId, null, response);
+    }
+    
+    // 애그리거트 버전 기반 ETag
+    private String versionTag(Long version) {
+        return "\"v" + version + "\"";
+    }
+    
+    private String requiredField(StreamedUpload upload, String name) throws MissingServletRequestParameterException {
+        String value = upload.field(name);
+        if (value == null) {
+            throw new MissingServletRequestParameterException(name, "String");
+        }
+        return value;
+    }
+    
+    // 하위 항목 변경 응답 방식
+    // profile: 전체 프로필(기본값), child: 변경된 하위 항목만(삭제 시 204), none: 204 No Content
+    // 모든 방식에서 커밋된 프로필 버전을 ETag 로 응답 (본문을 받지 않는 클라이언트도 방금 쓴 버전을 알 수 있음)
+    private ResponseEntity<?> respond(Long profileId, Object child, String response) {
+        if (RESPONSE_NONE.equals(response) || (RESPONSE_CHILD.equals(response) && child == null)) {
+            return ResponseEntity.noContent().eTag(versionTag(profileService.getProfileVersion(profileId))).build();
+        }
+        if (RESPONSE_CHILD.equals(response)) {
+            return ResponseEntity.ok().eTag(versionTag(profileService.getProfileVersion(profileId))).body(child);
+        }
+        ProfileDto profile = profileService.getProfile(profileId);
+        return ResponseEntity.ok().eTag(versionTag(profile.getVersion())).body(profile);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
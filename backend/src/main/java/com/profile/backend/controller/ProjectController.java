@@ -1,18 +1,33 @@
 package com.profile.backend.controller;
 
 import com.profile.backend.dto.ProjectDto;
+import com.profile.backend.exception.BadRequestException;
+import com.profile.backend.service.ContentVersions;
 import com.profile.backend.service.ProjectService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
@@ -20,17 +35,89 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class ProjectController {
 
+    private static final Logger logger = Logger.getLogger(ProjectController.class.getName());
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("startDate", "endDate");
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+    
     private final ProjectService projectService;
     private final ObjectMapper objectMapper;
+    private final MultipartStreamReader multipartStreamReader;
+    private final JsonResponseCache responseCache;
+    private final ContentVersions contentVersions;
     
     @GetMapping
-    public ResponseEntity<List<ProjectDto>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<?> getAllProjects(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "tech", required = false) List<String> technologies,
+            HttpServletRequest request) {
+        boolean dateQuery = from != null || to != null || sort != null;
+        boolean techQuery = technologies != null && technologies.stream().anyMatch(tech -> !tech.isBlank());
+        
+        // 파라미터가 없으면 기존과 동일하게 전체 목록 반환 (직렬화된 응답 캐시 사용)
+        if (after == null && limit == null && fields == null && !dateQuery && !techQuery) {
+            return responseCache.respond("projects", contentVersions.current(ContentVersions.Area.PROJECTS), null,
+                    request, projectService::getAllProjects);
+        }
+        
+        Set<String> fieldSet = fields != null
+                ? Arrays.stream(fields.split(","))
+                        .map(String::trim)
+                        .filter(field -> !field.isEmpty())
+                        .collect(Collectors.toSet())
+                : null;
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        List<ProjectDto> projects;
+        if (dateQuery) {
+            // 기간 필터/날짜 정렬은 날짜 인덱스로 조회 (id 커서, 기술 필터와 함께 사용할 수 없음)
+            if (after != null || techQuery) {
+                throw new BadRequestException("'after' and 'tech' cannot be combined with 'from', 'to' or 'sort'");
+            }
+            Integer pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_PAGE_SIZE)) : null;
+            projects = projectService.getProjectsByDate(from, to, parseSort(sort), pageSize);
+        } else {
+            // after만 지정된 경우 기본 페이지 크기 사용
+            Integer pageSize = limit != null || after != null
+                    ? Math.max(1, Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE))
+                    : null;
+            // 기술 필터는 지정한 기술을 모두 사용하는 프로젝트만 조회 (technology 인덱스 사용)
+            projects = techQuery
+                    ? projectService.getProjectsByTechnologies(technologies, after, pageSize)
+                    : projectService.getProjects(after, pageSize);
+            
+            // 다음 페이지가 있을 수 있으면 다음 커서를 헤더로 전달
+            if (pageSize != null && projects.size() == pageSize) {
+                response.header("X-Next-After", String.valueOf(projects.get(projects.size() - 1).getId()));
+            }
+        }
+        
+        if (fieldSet == null) {
+            return response.body(projects);
+        }
+        return response.body(projects.stream()
+                .map(project -> selectFields(project, fieldSet))
+                .collect(Collectors.toList()));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDto> getProject(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProject(id));
+    public ResponseEntity<byte[]> getProject(@PathVariable Long id, WebRequest webRequest, HttpServletRequest request) {
+        // 클라이언트의 ETag가 현재 버전과 같으면 조회/직렬화 없이 304 응답
+        Long version = projectService.getProjectVersion(id);
+        if (webRequest.checkNotModified(versionTag(version))) {
+            return null;
+        }
+        
+        // 같은 버전의 직렬화된 응답이 있으면 그대로 사용
+        return responseCache.respond("project:" + id, version, versionTag(version),
+                request, () -> projectService.getProject(id));
     }
     
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -51,6 +138,17 @@ public class ProjectController {
         return new ResponseEntity<>(projectService.createProjectWithFiles(projectDto, images, thumbIndex, troubleshootingImages, troubleshootingImageIndices), HttpStatus.CREATED);
     }
     
+    // 스트리밍 업로드: 이미지가 요청 스트림에서 바로 저장소로 기록됨
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, headers = MultipartStreamReader.STREAM_MODE_HEADER)
+    public ResponseEntity<ProjectDto> createProjectWithFilesStream(HttpServletRequest request) throws IOException, MissingServletRequestParameterException {
+        StreamedUpload upload = multipartStreamReader.read(request);
+        ProjectDto projectDto = objectMapper.readValue(requiredField(upload, "project"), ProjectDto.class);
+        String thumbnailIndex = upload.field("thumbnailIndex");
+        Integer thumbIndex = thumbnailIndex != null ? Integer.parseInt(thumbnailIndex) : null;
+        return new ResponseEntity<>(projectService.createProjectWithStagedImages(projectDto, upload.images("images"), thumbIndex,
+                upload.images("troubleshootingImages"), upload.fields("troubleshootingImageIndices")), HttpStatus.CREATED);
+    }
+    
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ProjectDto> updateProject(@PathVariable Long id, @RequestBody ProjectDto projectDto) {
         return ResponseEntity.ok(projectService.updateProject(id, projectDto));
@@ -69,20 +167,24 @@ public class ProjectController {
         ProjectDto projectDto = objectMapper.readValue(projectJson, ProjectDto.class);
         Integer thumbIndex = thumbnailIndex != null ? Integer.parseInt(thumbnailIndex) : null;
         
-        // 삭제된 이미지 목록 처리
-        List<String> deletedImages = null;
-        if (deletedImagesJson != null && !deletedImagesJson.isEmpty()) {
-            try {
-                deletedImages = objectMapper.readValue(deletedImagesJson, List.class);
-                System.out.println("삭제할 이미지 목록 받음: " + deletedImages);
-            } catch (Exception e) {
-                System.err.println("삭제된 이미지 목록 파싱 오류: " + e.getMessage());
-            }
-        }
+        List<String> deletedImages = parseDeletedImages(deletedImagesJson);
         
         return ResponseEntity.ok(projectService.updateProjectWithFiles(id, projectDto, images, thumbIndex, troubleshootingImages, troubleshootingImageIndices, deletedImages));
     }
     
+    @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, headers = MultipartStreamReader.STREAM_MODE_HEADER)
+    public ResponseEntity<ProjectDto> updateProjectWithFilesStream(@PathVariable Long id, HttpServletRequest request) throws IOException, MissingServletRequestParameterException {
+        StreamedUpload upload = multipartStreamReader.read(request);
+        ProjectDto projectDto = objectMapper.readValue(requiredField(upload, "project"), ProjectDto.class);
+        String thumbnailIndex = upload.field("thumbnailIndex");
+        Integer thumbIndex = thumbnailIndex != null ? Integer.parseInt(thumbnailIndex) : null;
+        
+        List<String> deletedImages = parseDeletedImages(upload.field("deletedImages"));
+        
+        return ResponseEntity.ok(projectService.updateProjectWithStagedImages(id, projectDto, upload.images("images"), thumbIndex,
+                upload.images("troubleshootingImages"), upload.fields("troubleshootingImageIndices"), deletedImages));
+    }
+    
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
         projectService.deleteProject(id);
@@ -108,4 +210,57 @@ public class ProjectController {
                                                          @PathVariable Long troubleShootingId) {
         return ResponseEntity.ok(projectService.deleteTroubleShooting(projectId, troubleShootingId));
     }
-} 
\ No newline at end of file
+    
+    // 애그리거트 버전 기반 ETag
+    private String versionTag(Long version) {
+        return "\"v" + version + "\"";
+    }
+    
+    // 삭제된 이미지 목록 (JSON 문자열 배열, 비어있으면 null), 형식이 잘못되면 두 업로드 방식 모두 400
+    private List<String> parseDeletedImages(String deletedImagesJson) {
+        if (deletedImagesJson == null || deletedImagesJson.isEmpty()) {
+            return null;
+        }
+        try {
+            List<String> deletedImages = objectMapper.readValue(deletedImagesJson, STRING_LIST);
+            logger.fine(() -> "삭제할 이미지 목록 받음: " + deletedImages);
+            return deletedImages;
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("'deletedImages' must be a JSON array of image URLs");
+        }
+    }
+    
+    private String requiredField(StreamedUpload upload, String name) throws MissingServletRequestParameterException {
+        String value = upload.field(name);
+        if (value == null) {
+            throw new MissingServletRequestParameterException(name, "String");
+        }
+        return value;
+    }
+    
+    // sort=endDate,desc 형식 (방향 생략 시 오름차순)
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.unsorted();
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SORTABLE_FIELDS.contains(property)) {
+            throw new BadRequestException("Unsupported sort field: " + property);
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new BadRequestException("Unsupported sort direction: " + sort));
+        }
+        return Sort.by(direction, property);
+    }
+    
+    // 요청된 필드만 응답에 포함 (목록은 카드 필드만 있으므로 그 밖의 필드는 응답에 없음)
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> selectFields(ProjectDto project, Set<String> fields) {
+        Map<String, Object> values = objectMapper.convertValue(project, LinkedHashMap.class);
+        values.keySet().retainAll(fields);
+        return values;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.profile.backend.controller;
+
+import com.profile.backend.dto.SearchResultDto;
+import com.profile.backend.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    
+    private final SearchService searchService;
+    
+    // 프로젝트와 트러블슈팅 검색 (메모리 색인 사용, DB 조회 없음)
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int size = Math.max(1, Math.min(limit != null ? limit : DEFAULT_LIMIT, MAX_LIMIT));
+        return ResponseEntity.ok(searchService.search(query, size));
+    }
+}
@@ -0,0 +1,43 @@
+package com.profile.backend.controller;
+
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.StagedImages;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스트리밍으로 읽은 multipart 요청 (일반 필드 값과 이미 저장된 파일)
+public class StreamedUpload {
+    
+    private final Map<String, List<String>> fields = new HashMap<>();
+    private final Map<String, List<ImageStorage.StoredImage>> files = new HashMap<>();
+    
+    void addField(String name, String value) {
+        fields.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+    }
+    
+    void addFile(String name, ImageStorage.StoredImage image) {
+        files.computeIfAbsent(name, key -> new ArrayList<>()).add(image);
+    }
+    
+    public String field(String name) {
+        List<String> values = fields.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+    
+    public List<String> fields(String name) {
+        return fields.get(name);
+    }
+    
+    // 필드 이름으로 업로드된 파일 목록 (업로드 순서 유지)
+    public StagedImages images(String name) {
+        return new StagedImages(files.getOrDefault(name, List.of()));
+    }
+    
+    // 첫 번째 파일의 URL (없거나 비어있으면 null)
+    public String imageUrl(String name) {
+        return images(name).url(0);
+    }
+}
\ No newline at end of file
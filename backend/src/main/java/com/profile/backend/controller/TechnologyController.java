@@ -0,0 +1,25 @@
+package com.profile.backend.controller;
+
+import com.profile.backend.dto.TechnologyCountDto;
+import com.profile.backend.service.TechnologyFacetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/technologies")
+@RequiredArgsConstructor
+public class TechnologyController {
+    
+    private final TechnologyFacetService technologyFacetService;
+    
+    // 기술별 프로젝트 수 (메모리 집계 사용, DB 조회 없음)
+    @GetMapping
+    public ResponseEntity<List<TechnologyCountDto>> getTechnologies() {
+        return ResponseEntity.ok(technologyFacetService.getCounts());
+    }
+}
@@ -1,5 +1,6 @@
 package com.profile.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,8 +18,13 @@ public class ProfileDto {
     private String bio;
     private String email;
     private String image;
+    // 프로필 이미지에 대해 생성된 축소본 너비 목록 (/api/images/{name}?w= 로 요청, srcset 용, 없으면 생략)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Integer> imageWidths;
     private String phone;
     private String address;
+    private Boolean primary;
+    private Long version;
     private List<CareerDto> careers;
     private List<EducationDto> educations;
     private List<SkillDto> skills;
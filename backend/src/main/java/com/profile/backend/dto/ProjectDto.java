@@ -1,8 +1,10 @@
 package com.profile.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,7 +27,12 @@ public class ProjectDto {
     private LocalDate endDate;
     private List<String> technologies;
     private List<String> images;
+    // 이미지 URL(썸네일, 이미지, 트러블슈팅 이미지) -> 생성된 축소본 너비 목록 (/api/images/{name}?w= 로 요청, srcset 용)
+    // 축소본이 있는 이미지만 포함하고, 하나도 없으면 생략
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, List<Integer>> imageWidths;
     private List<TroubleShootingDto> troubleshooting;
+    private Long version;
     
     @Data
     @NoArgsConstructor
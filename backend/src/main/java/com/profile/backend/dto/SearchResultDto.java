@@ -0,0 +1,21 @@
+package com.profile.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDto {
+    // project 또는 troubleshooting
+    private String type;
+    private Long projectId;
+    // type이 troubleshooting일 때만 값이 있음
+    private Long troubleshootingId;
+    private String title;
+    private String summary;
+    private double score;
+}
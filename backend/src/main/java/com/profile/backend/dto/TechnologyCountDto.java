@@ -0,0 +1,16 @@
+package com.profile.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TechnologyCountDto {
+    private String name;
+    // 해당 기술을 사용하는 프로젝트 수
+    private int count;
+}
@@ -0,0 +1,16 @@
+package com.profile.backend.entity;
+
+// 엔티티 id 발급 테이블 설정 (@TableGenerator 공통 값)
+// IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어 Hibernate 가 INSERT 를 JDBC 배치로 묶지 못하므로,
+// 테이블에서 ALLOCATION_SIZE 개씩 id 를 미리 받아(pooled) 메모리에서 발급
+public final class IdGenerators {
+    
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    // hibernate.jdbc.batch_size 와 같은 값 (한 번 받은 id 범위로 배치 하나를 채움)
+    public static final int ALLOCATION_SIZE = 50;
+    
+    private IdGenerators() {
+    }
+}
@@ -10,7 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", indexes = @Index(name = "idx_profiles_primary", columnList = "is_primary"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +18,10 @@ import lombok.NoArgsConstructor;
 public class Profile {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "profiles_id")
+    @TableGenerator(name = "profiles_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "profiles",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -39,6 +42,15 @@ public class Profile {
     
     private String address;
     
+    // 랜딩 페이지에 노출되는 대표 프로필 여부
+    @Column(name = "is_primary", nullable = false, columnDefinition = "boolean default false")
+    private boolean primary;
+    
+    // 애그리거트 버전 (하위 컬렉션 변경 시에도 증가, ETag 로 사용)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Career> careers = new ArrayList<>();
     
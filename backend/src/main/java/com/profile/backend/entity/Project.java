@@ -1,6 +1,7 @@
 package com.profile.backend.entity;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,7 +11,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_start_date", columnList = "start_date"),
+        @Index(name = "idx_projects_end_date", columnList = "end_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +22,10 @@ import lombok.NoArgsConstructor;
 public class Project {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "projects_id")
+    @TableGenerator(name = "projects_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "projects",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -31,7 +38,8 @@ public class Project {
     private String description;
     
     @ElementCollection
-    @CollectionTable(name = "project_technologies", joinColumns = @JoinColumn(name = "project_id"))
+    @CollectionTable(name = "project_technologies", joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_project_technologies_technology", columnList = "technology, project_id"))
     @Column(name = "technology")
     private List<String> technologies = new ArrayList<>();
     
@@ -47,10 +55,15 @@ public class Project {
     private String website;
     
     @Column(nullable = false)
-    private String startDate;
+    private LocalDate startDate;
     
     @Column(nullable = false)
-    private String endDate;
+    private LocalDate endDate;
+    
+    // 애그리거트 버전 (하위 컬렉션 변경 시에도 증가, ETag 로 사용)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
     
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TroubleShooting> troubleshooting = new ArrayList<>();
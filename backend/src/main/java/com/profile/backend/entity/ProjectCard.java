@@ -0,0 +1,51 @@
+package com.profile.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// 프로젝트 목록 읽기 모델: 목록 화면에 그리는 프로젝트 한 건(기술 스택, 썸네일 축소본 너비 포함)을 JSON 으로 저장
+// description, 이미지 목록, 트러블슈팅은 저장하지 않음 (단건 조회에서 제공)
+// id 는 projects.id 와 같고, 프로젝트를 변경하는 트랜잭션에서 함께 다시 기록됨 (ProjectServiceImpl)
+@Entity
+@Table(name = "project_cards")
+@Data
+@NoArgsConstructor
+public class ProjectCard implements Persistable<Long> {
+    
+    // 현재 카드 JSON 형식 버전 (목록 응답의 형태가 바뀌면 올림, 시작 시 이전 형식의 카드를 다시 기록)
+    public static final int FORMAT = 3;
+    
+    @Id
+    private Long id;
+    
+    @Lob
+    @Column(nullable = false)
+    private String content;
+    
+    // content 를 기록한 JSON 형식 버전
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private int format;
+    
+    // id 를 직접 지정하므로 save() 가 조회 후 merge 하지 않도록 새 카드 여부를 직접 관리
+    @Transient
+    private boolean newCard = true;
+    
+    public ProjectCard(Long id, String content) {
+        this.id = id;
+        this.content = content;
+        this.format = FORMAT;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return newCard;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        newCard = false;
+    }
+}
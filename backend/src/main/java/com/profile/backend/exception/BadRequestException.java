@@ -0,0 +1,14 @@
+package com.profile.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.profile.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.PAYLOAD_TOO_LARGE)
+public class UploadTooLargeException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public UploadTooLargeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -1,10 +1,70 @@
 package com.profile.backend.repository;
 
 import com.profile.backend.entity.Profile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     // 추가적인 쿼리 메서드가 필요하다면 여기에 정의
-} 
\ No newline at end of file
+
+    // 대표 프로필 조회 (is_primary 인덱스 사용)
+    Optional<Profile> findFirstByPrimaryTrueOrderByIdAsc();
+
+    // 대표 프로필이 지정되지 않은 경우 가장 먼저 생성된 프로필 (PK 조회)
+    Optional<Profile> findFirstByOrderByIdAsc();
+
+    // 대표 프로필 지정 여부
+    boolean existsByPrimaryTrue();
+
+    // keyset 페이지 조회 (내보내기용, 하위 컬렉션은 지연 로딩)
+    List<Profile> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    // 지정한 프로필 외의 대표 프로필 지정 해제 (해제된 프로필의 버전도 올려 ETag 와 응답 캐시 무효화)
+    @Modifying
+    @Query("update Profile p set p.primary = false, p.version = p.version + 1 where p.primary = true and p.id <> :id")
+    int clearPrimaryExcept(@Param("id") Long id);
+
+    // ETag 비교용 버전 조회 (프로필과 하위 컬렉션을 로딩하지 않음)
+    @Query("select p.version from Profile p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // 하위 항목을 직접 변경할 때 프로필 버전 증가
+    @Modifying
+    @Query("update Profile p set p.version = p.version + 1 where p.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    // 이미 로딩된 프로필의 하위 컬렉션을 하나씩 초기화
+    @Query("select distinct p from Profile p left join fetch p.careers where p = :profile")
+    Profile fetchCareers(@Param("profile") Profile profile);
+
+    @Query("select distinct p from Profile p left join fetch p.educations where p = :profile")
+    Profile fetchEducations(@Param("profile") Profile profile);
+
+    @Query("select distinct p from Profile p left join fetch p.skills where p = :profile")
+    Profile fetchSkills(@Param("profile") Profile profile);
+
+    @Query("select distinct p from Profile p left join fetch p.socials where p = :profile")
+    Profile fetchSocials(@Param("profile") Profile profile);
+
+    // 전체 프로필 수와 상관없이 고정된 쿼리 수로 대표 프로필과 하위 컬렉션을 조회
+    // (List 컬렉션 여러 개를 한 쿼리에서 join fetch 하면 MultipleBagFetchException 발생)
+    default Optional<Profile> findPrimaryWithCollections() {
+        Optional<Profile> profile = findFirstByPrimaryTrueOrderByIdAsc()
+                .or(this::findFirstByOrderByIdAsc);
+        profile.ifPresent(p -> {
+            fetchCareers(p);
+            fetchEducations(p);
+            fetchSkills(p);
+            fetchSocials(p);
+        });
+        return profile;
+    }
+}
\ No newline at end of file
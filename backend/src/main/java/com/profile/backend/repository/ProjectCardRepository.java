@@ -0,0 +1,34 @@
+package com.profile.backend.repository;
+
+import com.profile.backend.entity.ProjectCard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectCardRepository extends JpaRepository<ProjectCard, Long> {
+
+    // 전체 목록 (프로젝트당 한 행, 하위 테이블 조회 없음)
+    List<ProjectCard> findAllByOrderByIdAsc();
+
+    // keyset 페이지네이션: id가 after보다 큰 카드를 id 순으로 조회
+    List<ProjectCard> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    // 필터 조회로 찾은 프로젝트들의 카드 (순서는 호출자가 맞춤)
+    List<ProjectCard> findByIdIn(Collection<Long> ids);
+
+    // 지정한 형식의 카드가 없는 프로젝트 (카드가 없거나 이전 형식으로 기록됨, 시작 시 다시 기록)
+    @Query("select p.id from Project p where not exists (select c.id from ProjectCard c where c.id = p.id and c.format = :format) order by p.id")
+    List<Long> findProjectIdsWithoutCard(@Param("format") int format, Pageable pageable);
+
+    // 프로젝트가 없어진 카드 삭제
+    @Modifying
+    @Query("delete from ProjectCard c where not exists (select p.id from Project p where p.id = c.id)")
+    int deleteWithoutProject();
+}
@@ -1,11 +1,90 @@
 package com.profile.backend.repository;
 
 import com.profile.backend.entity.Project;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     // 기본 CRUD 메서드는 JpaRepository에서 제공
     // 필요한 경우 추가 쿼리 메서드를 여기에 정의
-} 
\ No newline at end of file
+
+    // ETag 비교용 버전 조회 (프로젝트와 컬렉션을 로딩하지 않음)
+    @Query("select p.version from Project p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // 수정용 조회: 트러블슈팅 항목만 바뀌어도 커밋 시 프로젝트 버전 증가
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> findForUpdateById(@Param("id") Long id);
+
+    // 목록 조회 1단계: 프로젝트와 트러블슈팅을 한 번에 조회
+    @Query("select distinct p from Project p left join fetch p.troubleshooting order by p.id")
+    List<Project> findAllWithTroubleshooting();
+
+    // 목록 조회 2단계: 이미 로딩된 프로젝트의 기술 스택 컬렉션 초기화
+    @Query("select distinct p from Project p left join fetch p.technologies where p in :projects")
+    List<Project> fetchTechnologies(@Param("projects") List<Project> projects);
+
+    // 목록 조회 3단계: 이미 로딩된 프로젝트의 이미지 컬렉션 초기화
+    @Query("select distinct p from Project p left join fetch p.images where p in :projects")
+    List<Project> fetchImages(@Param("projects") List<Project> projects);
+
+    // 프로젝트 수와 상관없이 3번의 쿼리로 전체 목록과 컬렉션을 조회
+    // (List 컬렉션 여러 개를 한 쿼리에서 join fetch 하면 MultipleBagFetchException 발생)
+    default List<Project> findAllWithCollections() {
+        List<Project> projects = findAllWithTroubleshooting();
+        if (!projects.isEmpty()) {
+            fetchTechnologies(projects);
+            fetchImages(projects);
+        }
+        return projects;
+    }
+
+    // 이미 로딩된 프로젝트의 트러블슈팅 컬렉션 초기화
+    @Query("select distinct p from Project p left join fetch p.troubleshooting where p in :projects")
+    List<Project> fetchTroubleshooting(@Param("projects") List<Project> projects);
+
+    // keyset 페이지네이션: id가 after보다 큰 프로젝트를 id 순으로 조회 (type으로 엔티티/프로젝션 선택)
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable, Class<T> type);
+
+    // 기간 조회: [from, to] 와 기간이 겹치는 프로젝트 id (null 이면 해당 조건 없음, 날짜 인덱스 사용)
+    // 정렬과 개수 제한은 pageable 로 지정, 응답 내용은 project_cards 에서 조회
+    @Query("select p.id from Project p where (:from is null or p.endDate >= :from) and (:to is null or p.startDate <= :to)")
+    List<Long> findIdsByDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    // 전체 프로젝트의 기술 스택 ([projectId, technology], 기술 집계 구성용)
+    @Query("select p.id, t from Project p join p.technologies t")
+    List<Object[]> findAllTechnologies();
+
+    // 프로젝트 하나의 기술 스택 (기술 집계 갱신용)
+    @Query("select t from Project p join p.technologies t where p.id = :id")
+    List<String> findTechnologiesById(@Param("id") Long id);
+
+    // 지정한 기술을 모두 사용하는 프로젝트 id 를 id 순으로 keyset 조회 (technology 인덱스만 사용)
+    @Query("select tp.id from Project tp join tp.technologies t where tp.id > :after and t in :technologies"
+            + " group by tp.id having count(distinct t) = :count order by tp.id")
+    List<Long> findIdsByTechnologies(@Param("after") Long after, @Param("technologies") Collection<String> technologies,
+                                     @Param("count") long count, Pageable pageable);
+
+    // keyset 페이지 조회 후 컬렉션을 페이지 크기와 상관없이 3번의 쿼리로 초기화
+    default List<Project> findPageWithCollections(Long after, Pageable pageable) {
+        List<Project> projects = findByIdGreaterThanOrderByIdAsc(after, pageable, Project.class);
+        if (!projects.isEmpty()) {
+            fetchTroubleshooting(projects);
+            fetchTechnologies(projects);
+            fetchImages(projects);
+        }
+        return projects;
+    }
+}
\ No newline at end of file
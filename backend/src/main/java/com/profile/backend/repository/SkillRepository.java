@@ -0,0 +1,22 @@
+package com.profile.backend.repository;
+
+import com.profile.backend.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+
+    // 프로필 전체를 로딩하지 않고 하위 항목만 조회
+    Optional<Skill> findByIdAndProfileId(Long id, Long profileId);
+
+    // 프로필 전체를 로딩하지 않고 하위 항목만 삭제
+    @Modifying
+    @Query("delete from Skill e where e.id = :id and e.profile.id = :profileId")
+    int deleteByIdAndProfileId(@Param("id") Long id, @Param("profileId") Long profileId);
+}
\ No newline at end of file
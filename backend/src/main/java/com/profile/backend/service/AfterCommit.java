@@ -0,0 +1,25 @@
+package com.profile.backend.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 커밋 후 실행할 작업 등록 (롤백된 변경은 반영하지 않음)
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    // 트랜잭션 안이면 커밋 후, 트랜잭션 밖이면 바로 실행
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
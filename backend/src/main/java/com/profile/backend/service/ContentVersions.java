@@ -0,0 +1,46 @@
+package com.profile.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 목록 응답 캐시 무효화용 데이터 버전 (쓰기 경로에서 변경 시 증가)
+@Component
+public class ContentVersions {
+
+    public enum Area { PROFILES, PROJECTS }
+
+    private final Map<Area, AtomicLong> versions = new EnumMap<>(Area.class);
+    // 마지막으로 변경이 커밋된 시각 (System.nanoTime, 복제본 지연 동안 읽기를 primary 로 보내는 데 사용)
+    private final AtomicLong lastChangeNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    public ContentVersions() {
+        // 재시작 후에도 이전 버전 값과 겹치지 않도록 시작 시각에서 출발
+        long start = System.currentTimeMillis();
+        for (Area area : Area.values()) {
+            versions.put(area, new AtomicLong(start));
+        }
+    }
+
+    public long current(Area area) {
+        return versions.get(area).get();
+    }
+
+    // 커밋 후에 버전 증가 (커밋 전 데이터가 새 버전으로 캐시되지 않도록)
+    public void changed(Area area) {
+        AfterCommit.run(() -> increment(area));
+    }
+    
+    // window 안에 커밋된 변경이 있는지 여부
+    public boolean changedWithin(Duration window) {
+        return System.nanoTime() - lastChangeNanos.get() < window.toNanos();
+    }
+    
+    private void increment(Area area) {
+        lastChangeNanos.set(System.nanoTime());
+        versions.get(area).incrementAndGet();
+    }
+}
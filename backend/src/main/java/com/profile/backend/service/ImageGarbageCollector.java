@@ -0,0 +1,10 @@
+package com.profile.backend.service;
+
+public interface ImageGarbageCollector {
+    
+    // 어떤 프로필/프로젝트/트러블슈팅에서도 참조하지 않고 유예 기간이 지난 업로드 이미지(축소본 포함) 삭제
+    CollectionResult collect();
+    
+    record CollectionResult(int scanned, int deleted, long freedBytes) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.profile.backend.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ImageStorage {
+    
+    // 저장된 이미지의 URL 접두사 (뒤에 파일명)
+    String URL_PREFIX = "/api/images/";
+    
+    // 업로드 이미지를 SHA-256 내용 주소로 저장하고 /api/images/{digest}.{ext} URL 반환
+    // 같은 내용의 이미지는 한 번만 저장됨
+    String store(MultipartFile file) throws IOException;
+    
+    // store와 같지만 이번 호출로 새로 저장되었는지 여부도 반환 (롤백 시 정리 판단용)
+    StoredImage save(MultipartFile file) throws IOException;
+    
+    // 요청 스트림에서 바로 읽어 저장 (비어있는 스트림이면 저장하지 않고 null 반환)
+    StoredImage save(InputStream in, String originalFilename) throws IOException;
+    
+    // URL에 해당하는 이미지와 축소본 삭제
+    void delete(String url);
+    
+    // 업로드 이미지 URL 에 대해 생성된 축소본 너비 목록 (업로드 이미지가 아니거나 축소본이 없으면 빈 목록)
+    List<Integer> variantWidths(String url);
+    
+    // 파일명에 해당하는 저장 경로 (업로드 디렉토리 밖이나 '.' 으로 시작하는 숨김 파일을 가리키면 null)
+    // 파일명만 주면 해시 분산 디렉토리({aa}/{bb}/{파일명})를 찾고, 아직 옮겨지지 않았으면 예전 평면 위치를 반환
+    // '/' 가 포함된 경로는 업로드 디렉토리 기준 상대 경로로 해석
+    Path resolve(String fileName);
+    
+    // 업로드 디렉토리 바로 아래(예전 평면 구조)의 원본과 축소본을 해시 분산 디렉토리로 이동 (최대 limit 개), 이동한 원본 수 반환
+    int migrateLegacyLayout(int limit) throws IOException;
+    
+    // 업로드 디렉토리의 모든 파일 (축소본 포함, 임시 파일 제외)을 업로드 디렉토리 기준 상대 경로로 반환 (사용 후 close)
+    Stream<Path> files() throws IOException;
+    
+    // 업로드된 원본 이미지 파일 (축소본, 임시 파일 제외) 절대 경로 (사용 후 close)
+    Stream<Path> originals() throws IOException;
+    
+    // 원본이 마지막으로 저장되거나 같은 내용의 업로드로 재사용된 시각 (정리 유예 기간 판단용)
+    // 재사용 시각은 원본의 수정 시각(이미지 ETag, Last-Modified)을 바꾸지 않도록 별도로 기록됨
+    Instant lastStored(Path original) throws IOException;
+    
+    // 내보낸 파일을 같은 상대 경로로 복원 (예전 구조 경로는 이후 migrateLegacyLayout 이 이동) (이미 있거나 업로드 디렉토리 밖이면 저장하지 않고 false, in은 닫지 않음)
+    boolean restore(String relativePath, InputStream in, FileTime lastModified) throws IOException;
+    
+    record StoredImage(String url, boolean created) {
+    }
+}
\ No newline at end of file
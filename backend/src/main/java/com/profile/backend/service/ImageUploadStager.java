@@ -0,0 +1,14 @@
+package com.profile.backend.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface ImageUploadStager {
+    
+    // 업로드 파일을 별도 스레드 풀에서 병렬로 저장 (DB 트랜잭션 밖에서 호출)
+    // 하나라도 실패하면 예외 발생 (이미 저장한 파일은 다른 요청이 같은 내용을 참조할 수 있으므로 바로 지우지 않고,
+    // 참조되지 않으면 ImageGarbageCollector 가 유예 기간 후 정리)
+    StagedImages stage(List<MultipartFile> files) throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.profile.backend.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+public interface ImageVariantService {
+    
+    // 업로드된 원본 이미지에 대해 설정된 너비별 축소본 생성
+    void createVariants(Path original);
+    
+    // 원본 이미지의 축소본 삭제
+    void deleteVariants(Path original) throws IOException;
+    
+    // 원본을 target 으로 옮길 때 축소본도 target 기준 위치로 이동 (없는 축소본은 건너뜀)
+    void moveVariants(Path original, Path target) throws IOException;
+    
+    // 요청 너비에 가장 가까운 축소본 경로 (없으면 원본)
+    Path resolve(Path original, Integer width);
+    
+    // 원본에 대해 실제로 생성된 축소본 너비 목록 (srcset 용, 작은 원본이나 svg/gif 등은 빈 목록)
+    List<Integer> getWidths(Path original);
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.profile.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface PortfolioArchiveService {
+    
+    // 프로필, 프로젝트(트러블슈팅 포함), 업로드 디렉토리의 이미지 파일 전체를 zip 으로 스트리밍 (out은 닫지 않음)
+    void exportArchive(OutputStream out) throws IOException;
+    
+    // exportArchive 로 만든 zip 에서 이미지 파일을 복원하고 데이터는 새 항목으로 추가 (데이터는 한 트랜잭션)
+    ImportResult importArchive(InputStream in) throws IOException;
+    
+    record ImportResult(int profiles, int projects, int files) {
+    }
+}
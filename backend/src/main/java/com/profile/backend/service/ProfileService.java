@@ -4,48 +4,66 @@ import com.profile.backend.dto.ProfileDto;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProfileService {
     
     ProfileDto getProfile(Long id);
     
+    // 프로필을 로딩하지 않고 버전만 조회 (ETag 비교용)
+    Long getProfileVersion(Long id);
+    
     ProfileDto getFirstProfile();
     
+    ProfileDto setPrimaryProfile(Long id);
+    
     ProfileDto createProfile(ProfileDto profileDto);
     
     ProfileDto createProfileWithImage(ProfileDto profileDto, MultipartFile imageFile) throws IOException;
     
+    // 이미 저장된 이미지 URL로 프로필 생성 (스트리밍 업로드용, imageUrl이 null이면 이미지 없음)
+    ProfileDto createProfileWithImageUrl(ProfileDto profileDto, String imageUrl);
+    
     ProfileDto updateProfile(Long id, ProfileDto profileDto);
     
     ProfileDto updateProfileWithImage(Long id, ProfileDto profileDto, MultipartFile imageFile) throws IOException;
     
+    ProfileDto updateProfileWithImageUrl(Long id, ProfileDto profileDto, String imageUrl);
+    
     void deleteProfile(Long id);
     
-    // Career 관련 메서드
-    ProfileDto addCareer(Long profileId, ProfileDto.CareerDto careerDto);
+    // 전체 프로필을 id 순으로 batchSize 개씩 조회해 전달 (배치마다 짧은 읽기 전용 트랜잭션, 전달 중에는 커넥션을 잡지 않음)
+    void exportProfiles(int batchSize, Consumer<ProfileDto> consumer);
+    
+    // 내보낸 프로필을 하위 항목과 함께 새로 저장 (id는 새로 발급, 대표 프로필이 없을 때만 대표 지정 유지)
+    void importProfiles(List<ProfileDto> profiles);
+    
+    // Career 관련 메서드 (변경된 하위 항목만 반환)
+    ProfileDto.CareerDto addCareer(Long profileId, ProfileDto.CareerDto careerDto);
     
-    ProfileDto updateCareer(Long profileId, Long careerId, ProfileDto.CareerDto careerDto);
+    ProfileDto.CareerDto updateCareer(Long profileId, Long careerId, ProfileDto.CareerDto careerDto);
     
-    ProfileDto deleteCareer(Long profileId, Long careerId);
+    void deleteCareer(Long profileId, Long careerId);
     
     // Education 관련 메서드
-    ProfileDto addEducation(Long profileId, ProfileDto.EducationDto educationDto);
+    ProfileDto.EducationDto addEducation(Long profileId, ProfileDto.EducationDto educationDto);
     
-    ProfileDto updateEducation(Long profileId, Long educationId, ProfileDto.EducationDto educationDto);
+    ProfileDto.EducationDto updateEducation(Long profileId, Long educationId, ProfileDto.EducationDto educationDto);
     
-    ProfileDto deleteEducation(Long profileId, Long educationId);
+    void deleteEducation(Long profileId, Long educationId);
     
     // Skill 관련 메서드
-    ProfileDto addSkill(Long profileId, ProfileDto.SkillDto skillDto);
+    ProfileDto.SkillDto addSkill(Long profileId, ProfileDto.SkillDto skillDto);
     
-    ProfileDto updateSkill(Long profileId, Long skillId, ProfileDto.SkillDto skillDto);
+    ProfileDto.SkillDto updateSkill(Long profileId, Long skillId, ProfileDto.SkillDto skillDto);
     
-    ProfileDto deleteSkill(Long profileId, Long skillId);
+    void deleteSkill(Long profileId, Long skillId);
     
     // Social 관련 메서드
-    ProfileDto addSocial(Long profileId, ProfileDto.SocialDto socialDto);
+    ProfileDto.SocialDto addSocial(Long profileId, ProfileDto.SocialDto socialDto);
     
-    ProfileDto updateSocial(Long profileId, Long socialId, ProfileDto.SocialDto socialDto);
+    ProfileDto.SocialDto updateSocial(Long profileId, Long socialId, ProfileDto.SocialDto socialDto);
     
-    ProfileDto deleteSocial(Long profileId, Long socialId);
+    void deleteSocial(Long profileId, Long socialId);
 } 
\ No newline at end of file
@@ -1,17 +1,33 @@
 package com.profile.backend.service;
 
 import com.profile.backend.dto.ProjectDto;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProjectService {
     
     List<ProjectDto> getAllProjects();
     
+    // keyset 페이지 조회 (after: 마지막으로 받은 id, limit: null이면 전체)
+    List<ProjectDto> getProjects(Long after, Integer limit);
+    
+    // 기간 필터 및 날짜 정렬 조회 (from/to: null이면 제한 없음, limit: null이면 전체)
+    List<ProjectDto> getProjectsByDate(LocalDate from, LocalDate to, Sort sort, Integer limit);
+    
+    // 지정한 기술을 모두 사용하는 프로젝트를 id 순으로 keyset 조회 (limit: null이면 전체)
+    List<ProjectDto> getProjectsByTechnologies(Collection<String> technologies, Long after, Integer limit);
+    
     ProjectDto getProject(Long id);
     
+    // 프로젝트를 로딩하지 않고 버전만 조회 (ETag 비교용)
+    Long getProjectVersion(Long id);
+    
     ProjectDto createProject(ProjectDto projectDto);
     
     ProjectDto createProjectWithFiles(
@@ -22,6 +38,15 @@ public interface ProjectService {
         List<String> troubleshootingImageIndices
     ) throws IOException;
     
+    // 이미 저장된 이미지로 프로젝트 생성 (스트리밍 업로드 등에서 사용, 실패 시 staged 이미지 정리)
+    ProjectDto createProjectWithStagedImages(
+        ProjectDto projectDto,
+        StagedImages images,
+        Integer thumbnailIndex,
+        StagedImages troubleshootingImages,
+        List<String> troubleshootingImageIndices
+    );
+    
     ProjectDto updateProject(Long id, ProjectDto projectDto);
     
     ProjectDto updateProjectWithFiles(
@@ -34,8 +59,28 @@ public interface ProjectService {
         List<String> deletedImages
     ) throws IOException;
     
+    ProjectDto updateProjectWithStagedImages(
+        Long id,
+        ProjectDto projectDto,
+        StagedImages images,
+        Integer thumbnailIndex,
+        StagedImages troubleshootingImages,
+        List<String> troubleshootingImageIndices,
+        List<String> deletedImages
+    );
+    
     void deleteProject(Long id);
     
+    // 전체 프로젝트를 id 순으로 batchSize 개씩 조회해 전달 (배치마다 짧은 읽기 전용 트랜잭션, 전달 중에는 커넥션을 잡지 않음)
+    void exportProjects(int batchSize, Consumer<ProjectDto> consumer);
+    
+    // 내보낸 프로젝트를 트러블슈팅과 함께 새로 저장 (id는 새로 발급, 검색 색인/기술 집계는 호출자가 재구성)
+    void importProjects(List<ProjectDto> projects);
+    
+    // 목록 읽기 모델(project_cards)에 카드가 없거나 이전 형식의 카드만 있는 프로젝트의 카드를
+    // batchSize 개씩 기록하고 기록한 수 반환 (프로젝트가 없어진 카드는 삭제)
+    int writeStaleProjectCards(int batchSize);
+    
     // TroubleShooting 관련 메서드
     ProjectDto addTroubleShooting(Long projectId, ProjectDto.TroubleShootingDto troubleShootingDto);
     
@@ -0,0 +1,20 @@
+package com.profile.backend.service;
+
+import com.profile.backend.dto.SearchResultDto;
+
+import java.util.List;
+
+public interface SearchService {
+    
+    // 프로젝트/트러블슈팅 검색 (BM25 점수 내림차순)
+    List<SearchResultDto> search(String query, int limit);
+    
+    // 프로젝트와 트러블슈팅 문서를 현재 DB 상태로 다시 색인 (트랜잭션 커밋 후 반영)
+    void indexProject(Long projectId);
+    
+    // 프로젝트와 트러블슈팅 문서를 색인에서 제거 (트랜잭션 커밋 후 반영)
+    void removeProject(Long projectId);
+    
+    // 전체 프로젝트로 색인 재구성
+    void rebuild();
+}
@@ -0,0 +1,42 @@
+package com.profile.backend.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 트랜잭션 시작 전에 미리 저장된 업로드 이미지 목록 (업로드 순서 유지)
+// 저장 후 요청이 실패해도 파일을 바로 지우지 않음: 같은 내용을 다른 요청이 이미 참조했을 수 있으므로
+// 참조되지 않은 파일은 유예 기간 후 미사용 이미지 정리(ImageGarbageCollector)에서 삭제
+public class StagedImages {
+    
+    private final List<ImageStorage.StoredImage> images;
+    
+    public StagedImages(List<ImageStorage.StoredImage> images) {
+        this.images = images;
+    }
+    
+    // 업로드된 파일 수 (비어있는 파일 포함)
+    public int size() {
+        return images.size();
+    }
+    
+    public boolean isEmpty() {
+        return images.isEmpty();
+    }
+    
+    // index 번째 업로드 파일의 URL (비어있는 파일이면 null)
+    public String url(int index) {
+        if (index < 0 || index >= images.size() || images.get(index) == null) {
+            return null;
+        }
+        return images.get(index).url();
+    }
+    
+    // 비어있지 않은 업로드 파일의 URL 목록
+    public List<String> urls() {
+        return images.stream()
+                .filter(Objects::nonNull)
+                .map(ImageStorage.StoredImage::url)
+                .collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.profile.backend.service;
+
+import com.profile.backend.dto.TechnologyCountDto;
+
+import java.util.List;
+
+public interface TechnologyFacetService {
+    
+    // 기술별 프로젝트 수 (많은 순, 같으면 이름 순)
+    List<TechnologyCountDto> getCounts();
+    
+    // 프로젝트의 기술 스택 변경 반영 (트랜잭션 커밋 후 커밋된 기술 스택을 다시 읽어 반영)
+    void update(Long projectId);
+    
+    // 삭제된 프로젝트의 기술 스택 제거 (트랜잭션 커밋 후 반영)
+    void remove(Long projectId);
+    
+    // 전체 프로젝트로 집계 재구성
+    void rebuild();
+}
@@ -0,0 +1,214 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.service.ImageGarbageCollector;
+import com.profile.backend.service.ImageStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+// 참조가 끊긴 업로드 이미지 정리 (mark-and-sweep)
+// 1. mark: DB 의 이미지 참조(프로젝트 썸네일/이미지, 트러블슈팅, 프로필)에서 파일명 집합 생성
+// 2. sweep: 업로드 디렉토리를 훑어 참조되지 않고 유예 기간이 지난 파일을 후보로 수집 (실행당 최대 max-deletions 개)
+// 3. 훑는 동안 커밋된 참조를 반영하도록 다시 mark 한 뒤, 후보를 batch-size 개씩 batch-pause 간격으로 삭제
+// 업로드 후 아직 커밋되지 않은 파일은 유예 기간으로, 재사용된 파일은 저장 시 기록한 재사용 시각으로 보호
+@Service
+public class ImageGarbageCollectorImpl implements ImageGarbageCollector {
+    
+    private static final Logger logger = Logger.getLogger(ImageGarbageCollectorImpl.class.getName());
+    
+    private static final String REFERENCES_SQL =
+            "select thumbnail from projects where thumbnail is not null"
+                    + " union all select image_url from project_images where image_url is not null"
+                    + " union all select image from troubleshooting where image is not null"
+                    + " union all select image from profiles where image is not null";
+    
+    private final ImageStorage imageStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxDeletions;
+    
+    private final MeterRegistry meterRegistry;
+    private final Counter scannedFiles;
+    private final Counter deletedFiles;
+    private final Counter freedBytes;
+    private final AtomicLong liveImages = new AtomicLong();
+    
+    public ImageGarbageCollectorImpl(ImageStorage imageStorage,
+                                     JdbcTemplate jdbcTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.image-gc.enabled:true}") boolean enabled,
+                                     @Value("${app.image-gc.grace-period:PT24H}") Duration gracePeriod,
+                                     @Value("${app.image-gc.batch-size:100}") int batchSize,
+                                     @Value("${app.image-gc.batch-pause:PT1S}") Duration batchPause,
+                                     @Value("${app.image-gc.max-deletions:1000}") int maxDeletions) {
+        this.imageStorage = imageStorage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxDeletions = maxDeletions;
+        this.meterRegistry = meterRegistry;
+        this.scannedFiles = Counter.builder("app.images.gc.scanned")
+                .description("Uploaded images examined by the orphan image collector")
+                .register(meterRegistry);
+        this.deletedFiles = Counter.builder("app.images.gc.deleted")
+                .description("Orphaned uploaded images deleted")
+                .register(meterRegistry);
+        this.freedBytes = Counter.builder("app.images.gc.freed.bytes")
+                .description("Bytes of deleted orphaned original images")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        meterRegistry.gauge("app.images.gc.live", liveImages);
+    }
+    
+    @Scheduled(initialDelayString = "${app.image-gc.initial-delay:PT10M}", fixedDelayString = "${app.image-gc.interval:PT6H}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            collect();
+        } catch (RuntimeException e) {
+            logger.warning("Orphan image collection failed: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public synchronized CollectionResult collect() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Instant cutoff = Instant.now().minus(gracePeriod);
+            
+            List<Path> candidates = new ArrayList<>();
+            int scanned = findCandidates(markLive(), cutoff, candidates);
+            
+            int deleted = 0;
+            long freed = 0;
+            if (!candidates.isEmpty()) {
+                // 훑는 동안 새로 커밋된 참조 반영
+                Set<String> live = markLive();
+                for (int from = 0; from < candidates.size(); from += batchSize) {
+                    if (from > 0) {
+                        pause();
+                    }
+                    for (Path path : candidates.subList(from, Math.min(from + batchSize, candidates.size()))) {
+                        long size = deleteIfOrphan(path, live, cutoff);
+                        if (size >= 0) {
+                            deleted++;
+                            freed += size;
+                        }
+                    }
+                }
+                logger.info("참조되지 않는 이미지 정리: scanned=" + scanned + ", deleted=" + deleted + ", freedBytes=" + freed);
+            }
+            return new CollectionResult(scanned, deleted, freed);
+        } finally {
+            sample.stop(Timer.builder("app.images.gc.run")
+                    .description("Duration of an orphan image collection run")
+                    .register(meterRegistry));
+        }
+    }
+    
+    // DB 에서 참조 중인 이미지 파일명 집합 (URL 형식과 상관없이 마지막 경로 조각으로 비교)
+    private Set<String> markLive() {
+        Set<String> live = new HashSet<>();
+        jdbcTemplate.query(REFERENCES_SQL, rs -> {
+            String name = fileName(rs.getString(1));
+            if (!name.isEmpty()) {
+                live.add(name);
+            }
+        });
+        liveImages.set(live.size());
+        return live;
+    }
+    
+    // 참조되지 않고 cutoff 이전에 마지막으로 저장된 원본을 candidates 에 추가 (최대 maxDeletions 개), 훑은 파일 수 반환
+    private int findCandidates(Set<String> live, Instant cutoff, List<Path> candidates) {
+        int scanned = 0;
+        try (Stream<Path> originals = imageStorage.originals()) {
+            Iterator<Path> iterator = originals.iterator();
+            while (iterator.hasNext() && candidates.size() < maxDeletions) {
+                Path path = iterator.next();
+                scanned++;
+                scannedFiles.increment();
+                if (!live.contains(path.getFileName().toString()) && storedBefore(path, cutoff)) {
+                    candidates.add(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return scanned;
+    }
+    
+    // 다시 확인 후 원본과 축소본 삭제, 삭제한 원본 크기 반환 (삭제하지 않으면 -1)
+    private long deleteIfOrphan(Path path, Set<String> live, Instant cutoff) {
+        String name = path.getFileName().toString();
+        // 두 번째 mark 이후 재사용된 파일은 남김
+        if (live.contains(name) || !storedBefore(path, cutoff)) {
+            return -1;
+        }
+        try {
+            long size = Files.size(path);
+            imageStorage.delete(ImageStorage.URL_PREFIX + name);
+            deletedFiles.increment();
+            freedBytes.increment(size);
+            return size;
+        } catch (NoSuchFileException e) {
+            return -1;
+        } catch (IOException e) {
+            logger.warning("Failed to delete orphaned image " + path + ": " + e.getMessage());
+            return -1;
+        }
+    }
+    
+    private boolean storedBefore(Path path, Instant cutoff) {
+        try {
+            return imageStorage.lastStored(path).isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+    
+    // 배치 사이 대기 (디스크 I/O 가 요청 처리와 경쟁하지 않도록)
+    private void pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static String fileName(String reference) {
+        String name = reference;
+        int query = name.indexOf('?');
+        if (query >= 0) {
+            name = name.substring(0, query);
+        }
+        return name.substring(name.lastIndexOf('/') + 1).trim();
+    }
+}
@@ -0,0 +1,337 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.ImageVariantService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Service
+public class ImageStorageImpl implements ImageStorage {
+    
+    private static final Logger logger = Logger.getLogger(ImageStorageImpl.class.getName());
+    
+    private static final String DEFAULT_EXTENSION = "jpg";
+    
+    // 재사용 시각 표시 파일 접두사 (원본과 같은 디렉토리의 숨김 파일, 파일 목록과 내보내기에서 제외됨)
+    private static final String REUSED_PREFIX = ".reused-";
+    
+    // 내용 해시(SHA-256) 파일명: 해시 앞부분을 그대로 분산 디렉토리명으로 사용
+    private static final Pattern CONTENT_NAME = Pattern.compile("[0-9a-f]{64}\\..+");
+    private static final Pattern SHARD_DIR = Pattern.compile("[0-9a-f]{2}");
+    
+    private final Path root;
+    private final ImageVariantService imageVariantService;
+    private final MeterRegistry meterRegistry;
+    private final Counter uploadedBytes;
+    
+    public ImageStorageImpl(@Value("${app.upload.image-dir}") String uploadDir,
+                            ImageVariantService imageVariantService,
+                            MeterRegistry meterRegistry) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.imageVariantService = imageVariantService;
+        this.meterRegistry = meterRegistry;
+        this.uploadedBytes = Counter.builder("app.images.uploaded.bytes")
+                .description("Image bytes received from uploads")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public String store(MultipartFile file) throws IOException {
+        return save(file).url();
+    }
+    
+    @Override
+    public StoredImage save(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return save(in, file.getOriginalFilename());
+        }
+    }
+    
+    @Override
+    public StoredImage save(InputStream source, String originalFilename) throws IOException {
+        // 요청 스트림 수신 + 해시 + 축소본 생성까지의 저장 시간 (result: created / duplicate / empty / error)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "error";
+        try {
+            StoredImage stored = write(source, originalFilename);
+            result = stored == null ? "empty" : stored.created() ? "created" : "duplicate";
+            return stored;
+        } finally {
+            sample.stop(Timer.builder("app.images.upload")
+                    .description("Time to store an uploaded image")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+    
+    private StoredImage write(InputStream source, String originalFilename) throws IOException {
+        Files.createDirectories(root);
+        
+        // 업로드 디렉토리 안의 임시 파일에 쓰면서 해시 계산 (같은 파일시스템이므로 이동이 원자적)
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            MessageDigest digest = newDigest();
+            try (InputStream in = new DigestInputStream(source, digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            long size = Files.size(temp);
+            if (size == 0) {
+                return null;
+            }
+            uploadedBytes.increment(size);
+            
+            String fileName = HexFormat.of().formatHex(digest.digest()) + "." + extensionOf(originalFilename);
+            // 분산 디렉토리 또는 아직 옮겨지지 않은 예전 위치의 기존 파일
+            Path target = resolve(fileName);
+            
+            // 이미 같은 내용이 저장되어 있으면 재사용 (임시 파일은 finally에서 삭제)
+            boolean created = !Files.exists(target);
+            if (created) {
+                Files.createDirectories(target.getParent());
+                // 동시에 같은 내용이 올라와 덮어쓰더라도 파일 내용은 동일함
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                target.toFile().setReadable(true, false);
+                imageVariantService.createVariants(target);
+                logger.info("파일 저장 완료: " + target);
+            } else {
+                // 참조가 끊겨 정리 대상이던 파일을 다시 쓰는 경우 유예 기간 동안 정리되지 않도록 재사용 시각 기록
+                // (원본 수정 시각은 이미지 ETag 이므로 그대로 둠)
+                markReused(target);
+            }
+            
+            return new StoredImage(URL_PREFIX + fileName, created);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    @Override
+    public void delete(String url) {
+        Path path = resolve(url.substring(url.lastIndexOf('/') + 1));
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(reusedMarker(path));
+            imageVariantService.deleteVariants(path);
+        } catch (IOException e) {
+            logger.warning("Failed to delete image " + path + ": " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public List<Integer> variantWidths(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return List.of();
+        }
+        Path original = resolve(url.substring(URL_PREFIX.length()));
+        return original == null || !Files.exists(original) ? List.of() : imageVariantService.getWidths(original);
+    }
+    
+    @Override
+    public Path resolve(String fileName) {
+        if (fileName.indexOf('/') >= 0 || fileName.indexOf(File.separatorChar) >= 0) {
+            return resolveRelative(fileName);
+        }
+        // 숨김 파일(저장 중인 .upload-*.tmp, 재사용 기록 .reused-* 등)은 업로드 이미지가 아니므로 제외 ('.', '..' 포함)
+        if (fileName.isEmpty() || fileName.startsWith(".")) {
+            return null;
+        }
+        Path sharded = shardedPath(fileName);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        // 이동 중 예전 위치에서 사라졌다면 이미 분산 위치로 옮겨진 것 (새 파일도 분산 위치에 저장)
+        Path legacy = root.resolve(fileName);
+        return Files.exists(legacy) ? legacy : sharded;
+    }
+    
+    @Override
+    public int migrateLegacyLayout(int limit) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        int moved = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path path : entries) {
+                if (moved >= limit) {
+                    break;
+                }
+                String fileName = path.getFileName().toString();
+                if (fileName.startsWith(".") || !Files.isRegularFile(path)) {
+                    continue;
+                }
+                
+                Path target = shardedPath(fileName);
+                Files.createDirectories(target.getParent());
+                // 축소본을 먼저 옮김 (중단되어도 원본이 남아 있어 다음 실행에서 이어서 이동)
+                imageVariantService.moveVariants(path, target);
+                Path marker = reusedMarker(path);
+                if (Files.exists(marker)) {
+                    Files.move(marker, reusedMarker(target), StandardCopyOption.REPLACE_EXISTING);
+                }
+                if (Files.exists(target)) {
+                    // 같은 파일명은 같은 내용 (내용 해시 파일명)
+                    Files.deleteIfExists(path);
+                } else {
+                    Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+                moved++;
+            }
+        }
+        return moved;
+    }
+    
+    @Override
+    public Stream<Path> files() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+        // 저장 중인 .upload-*.tmp 등 숨김 파일은 제외
+        return Files.walk(root)
+                .filter(Files::isRegularFile)
+                .filter(path -> !path.getFileName().toString().startsWith("."))
+                .map(root::relativize);
+    }
+    
+    @Override
+    public Stream<Path> originals() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+        // 원본은 {aa}/{bb}/{파일명} 또는 이동 전 업로드 디렉토리 바로 아래 (축소본은 variants 하위 디렉토리)
+        return Files.walk(root, 3)
+                .filter(Files::isRegularFile)
+                .filter(path -> !path.getFileName().toString().startsWith("."))
+                .filter(path -> isOriginal(root.relativize(path)));
+    }
+    
+    @Override
+    public Instant lastStored(Path original) throws IOException {
+        Instant stored = Files.getLastModifiedTime(original).toInstant();
+        try {
+            Instant reused = Files.getLastModifiedTime(reusedMarker(original)).toInstant();
+            return reused.isAfter(stored) ? reused : stored;
+        } catch (NoSuchFileException e) {
+            return stored;
+        }
+    }
+    
+    @Override
+    public boolean restore(String relativePath, InputStream source, FileTime lastModified) throws IOException {
+        Path target = resolveRelative(relativePath);
+        if (target == null || target.equals(root) || target.getFileName().toString().startsWith(".")
+                || Files.exists(target)) {
+            return false;
+        }
+        // 예전 구조의 원본은 이미 분산 위치에 있으면 건너뜀
+        if (target.getParent().equals(root) && Files.exists(resolve(target.getFileName().toString()))) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        
+        Path temp = Files.createTempFile(root, ".restore-", ".tmp");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            // 수정 시각을 유지해야 이미지 ETag(크기-수정 시각)가 내보내기 전과 같음
+            if (lastModified != null) {
+                Files.setLastModifiedTime(temp, lastModified);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            target.toFile().setReadable(true, false);
+            return true;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    private void markReused(Path original) throws IOException {
+        Path marker = reusedMarker(original);
+        try {
+            Files.createFile(marker);
+        } catch (FileAlreadyExistsException e) {
+            Files.setLastModifiedTime(marker, FileTime.from(Instant.now()));
+        }
+    }
+    
+    private Path reusedMarker(Path original) {
+        return original.resolveSibling(REUSED_PREFIX + original.getFileName());
+    }
+    
+    // 업로드 디렉토리 밖이거나 경로 중 숨김 파일/디렉토리가 있으면 null
+    private Path resolveRelative(String relativePath) {
+        Path path = root.resolve(relativePath).normalize();
+        if (!path.startsWith(root)) {
+            return null;
+        }
+        for (Path name : root.relativize(path)) {
+            if (name.toString().startsWith(".")) {
+                return null;
+            }
+        }
+        return path;
+    }
+    
+    // 2단계 해시 분산 경로 {aa}/{bb}/{파일명} (내용 해시가 아닌 예전 파일명은 파일명의 SHA-256 사용)
+    private Path shardedPath(String fileName) {
+        String hash = CONTENT_NAME.matcher(fileName).matches()
+                ? fileName
+                : HexFormat.of().formatHex(newDigest().digest(fileName.getBytes(StandardCharsets.UTF_8)));
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(fileName);
+    }
+    
+    private boolean isOriginal(Path relative) {
+        int count = relative.getNameCount();
+        return count == 1
+                || (count == 3
+                && SHARD_DIR.matcher(relative.getName(0).toString()).matches()
+                && SHARD_DIR.matcher(relative.getName(1).toString()).matches());
+    }
+    
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    // 원본 파일명의 확장자만 사용 (콘텐츠 타입 판별용)
+    private String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return DEFAULT_EXTENSION;
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        String extension = dot >= 0 ? originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return extension.matches("[a-z0-9]{1,5}") ? extension : DEFAULT_EXTENSION;
+    }
+}
\ No newline at end of file
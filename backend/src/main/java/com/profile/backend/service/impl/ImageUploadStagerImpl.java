@@ -0,0 +1,71 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.ImageUploadStager;
+import com.profile.backend.service.StagedImages;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+@Service
+public class ImageUploadStagerImpl implements ImageUploadStager {
+    
+    private final ImageStorage imageStorage;
+    private final Executor executor;
+    
+    public ImageUploadStagerImpl(ImageStorage imageStorage,
+                                 @Qualifier("imageUploadExecutor") Executor executor) {
+        this.imageStorage = imageStorage;
+        this.executor = executor;
+    }
+    
+    @Override
+    public StagedImages stage(List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return new StagedImages(List.of());
+        }
+        
+        List<CompletableFuture<ImageStorage.StoredImage>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file.isEmpty()) {
+                futures.add(CompletableFuture.completedFuture(null));
+            } else {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return imageStorage.save(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor));
+            }
+        }
+        
+        // 모든 저장이 끝날 때까지 기다린 후 실패가 있으면 예외 (이미 저장된 파일은 미사용 이미지 정리에서 삭제)
+        List<ImageStorage.StoredImage> stored = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<ImageStorage.StoredImage> future : futures) {
+            try {
+                stored.add(future.join());
+            } catch (CompletionException e) {
+                stored.add(null);
+                failure = failure != null ? failure : e.getCause();
+            }
+        }
+        
+        if (failure != null) {
+            if (failure instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) failure).getCause();
+            }
+            throw new IOException("Failed to store uploaded image", failure);
+        }
+        return new StagedImages(stored);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.service.ImageVariantService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+    
+    private static final Logger logger = Logger.getLogger(ImageVariantServiceImpl.class.getName());
+    
+    // 축소본은 원본과 같은 디렉토리 아래 variants/{너비}/{파일명} 에 저장
+    private static final String VARIANT_DIR = "variants";
+    
+    private final List<Integer> widths;
+    
+    public ImageVariantServiceImpl(@Value("${app.upload.image-widths:160,480,1080}") List<Integer> widths) {
+        this.widths = widths.stream().sorted().distinct().collect(Collectors.toList());
+    }
+    
+    @Override
+    public void createVariants(Path original) {
+        String format = formatOf(original.getFileName().toString());
+        if (format == null) {
+            return;
+        }
+        
+        try {
+            BufferedImage source = ImageIO.read(original.toFile());
+            if (source == null) {
+                return;
+            }
+            
+            for (Integer width : widths) {
+                // 원본보다 큰 축소본은 만들지 않음 (요청 시 원본으로 대체)
+                if (width >= source.getWidth()) {
+                    break;
+                }
+                Path target = variantPath(original, width);
+                Files.createDirectories(target.getParent());
+                ImageIO.write(resize(source, width, format), format, target.toFile());
+            }
+        } catch (IOException e) {
+            // 축소본 생성 실패는 업로드 실패로 처리하지 않음
+            logger.warning("Failed to create image variants for " + original + ": " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public void deleteVariants(Path original) throws IOException {
+        for (Integer width : widths) {
+            Files.deleteIfExists(variantPath(original, width));
+        }
+    }
+    
+    @Override
+    public void moveVariants(Path original, Path target) throws IOException {
+        for (Integer width : widths) {
+            Path from = variantPath(original, width);
+            if (!Files.exists(from)) {
+                continue;
+            }
+            Path to = variantPath(target, width);
+            Files.createDirectories(to.getParent());
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+    
+    @Override
+    public Path resolve(Path original, Integer width) {
+        if (width == null || width <= 0) {
+            return original;
+        }
+        // 요청 너비 이상인 가장 작은 축소본 선택
+        for (Integer candidate : widths) {
+            if (candidate >= width) {
+                Path variant = variantPath(original, candidate);
+                if (Files.exists(variant)) {
+                    return variant;
+                }
+            }
+        }
+        return original;
+    }
+    
+    @Override
+    public List<Integer> getWidths(Path original) {
+        if (formatOf(original.getFileName().toString()) == null) {
+            return List.of();
+        }
+        return widths.stream()
+                .filter(width -> Files.exists(variantPath(original, width)))
+                .collect(Collectors.toList());
+    }
+    
+    private Path variantPath(Path original, int width) {
+        return original.resolveSibling(VARIANT_DIR)
+                .resolve(String.valueOf(width))
+                .resolve(original.getFileName());
+    }
+    
+    // 축소본을 생성할 수 있는 형식만 처리 (svg, gif 등은 원본만 제공)
+    private String formatOf(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        if (lower.endsWith(".png")) {
+            return "png";
+        }
+        return null;
+    }
+    
+    private BufferedImage resize(BufferedImage source, int width, String format) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        // jpg는 알파 채널을 지원하지 않음
+        int type = "jpg".equals(format) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        // 한 번에 크게 줄이면 품질이 떨어지므로 절반씩 단계적으로 축소
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = currentWidth == width ? height : Math.max(height, currentHeight / 2);
+            
+            BufferedImage scaled = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = scaled;
+        } while (currentWidth != width);
+        
+        return current;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,229 @@
+package com.profile.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profile.backend.dto.ProfileDto;
+import com.profile.backend.dto.ProjectDto;
+import com.profile.backend.exception.BadRequestException;
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.PortfolioArchiveService;
+import com.profile.backend.service.ProfileService;
+import com.profile.backend.service.ProjectService;
+import com.profile.backend.service.SearchService;
+import com.profile.backend.service.TechnologyFacetService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+// 포트폴리오 전체 백업/이전용 zip 내보내기/가져오기
+// 구성: images/{업로드 디렉토리 기준 경로} 파일들, 그 다음 portfolio.json (profiles, projects 배열)
+// 데이터는 배치 단위로 조회/저장하고 JSON 은 스트리밍으로 읽고 쓰므로 메모리 사용량이 데이터/이미지 양과 무관
+@Service
+@RequiredArgsConstructor
+public class PortfolioArchiveServiceImpl implements PortfolioArchiveService {
+    
+    private static final Logger logger = Logger.getLogger(PortfolioArchiveServiceImpl.class.getName());
+    
+    private static final String DATA_ENTRY = "portfolio.json";
+    private static final String IMAGE_PREFIX = "images/";
+    private static final int FORMAT_VERSION = 1;
+    private static final int BATCH_SIZE = 100;
+    
+    private final ProfileService profileService;
+    private final ProjectService projectService;
+    private final SearchService searchService;
+    private final TechnologyFacetService technologyFacetService;
+    private final ImageStorage imageStorage;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    
+    @Override
+    public void exportArchive(OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(StreamUtils.nonClosing(out));
+        // 이미지는 이미 압축된 형식이라 압축률보다 속도 우선
+        zip.setLevel(Deflater.BEST_SPEED);
+        
+        // 가져올 때 데이터보다 파일이 먼저 복원되도록 이미지를 앞에 기록
+        int files = writeImages(zip);
+        
+        zip.putNextEntry(new ZipEntry(DATA_ENTRY));
+        int[] counts = new int[2];
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(StreamUtils.nonClosing(zip))) {
+            generator.writeStartObject();
+            generator.writeNumberField("formatVersion", FORMAT_VERSION);
+            generator.writeStringField("exportedAt", Instant.now().toString());
+            
+            generator.writeArrayFieldStart("profiles");
+            profileService.exportProfiles(BATCH_SIZE, profile -> {
+                write(generator, profile);
+                counts[0]++;
+            });
+            generator.writeEndArray();
+            
+            generator.writeArrayFieldStart("projects");
+            projectService.exportProjects(BATCH_SIZE, project -> {
+                write(generator, project);
+                counts[1]++;
+            });
+            generator.writeEndArray();
+            
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        zip.closeEntry();
+        zip.finish();
+        
+        logger.info("포트폴리오 내보내기 완료: profiles=" + counts[0] + ", projects=" + counts[1] + ", files=" + files);
+    }
+    
+    @Override
+    public ImportResult importArchive(InputStream in) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in);
+        int files = 0;
+        int[] counts = null;
+        
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            String name = entry.getName();
+            if (entry.isDirectory()) {
+                continue;
+            }
+            if (name.startsWith(IMAGE_PREFIX)) {
+                if (imageStorage.restore(name.substring(IMAGE_PREFIX.length()), zip, entry.getLastModifiedTime())) {
+                    files++;
+                }
+            } else if (name.equals(DATA_ENTRY)) {
+                counts = importData(StreamUtils.nonClosing(zip));
+            }
+        }
+        if (counts == null) {
+            throw new BadRequestException("Archive does not contain " + DATA_ENTRY);
+        }
+        
+        // 가져온 프로젝트를 항목별로 반영하는 대신 한 번에 재구성
+        searchService.rebuild();
+        technologyFacetService.rebuild();
+        
+        logger.info("포트폴리오 가져오기 완료: profiles=" + counts[0] + ", projects=" + counts[1] + ", files=" + files);
+        return new ImportResult(counts[0], counts[1], files);
+    }
+    
+    private int writeImages(ZipOutputStream zip) throws IOException {
+        int count = 0;
+        try (Stream<Path> files = imageStorage.files()) {
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                Path relative = iterator.next();
+                Path path = imageStorage.resolve(relative.toString());
+                
+                // 목록 조회 후 삭제된 파일은 건너뜀 (엔트리를 열기 전에 파일부터 열어 확인)
+                InputStream source;
+                try {
+                    source = Files.newInputStream(path);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                try (source) {
+                    ZipEntry entry = new ZipEntry(IMAGE_PREFIX + relative.toString().replace(File.separatorChar, '/'));
+                    entry.setLastModifiedTime(Files.getLastModifiedTime(path));
+                    zip.putNextEntry(entry);
+                    source.transferTo(zip);
+                    zip.closeEntry();
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private void write(JsonGenerator generator, Object value) {
+        try {
+            objectMapper.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    // portfolio.json 을 읽으면서 배치 단위로 저장 (전체를 한 트랜잭션으로 처리해 실패 시 데이터는 남지 않음)
+    private int[] importData(InputStream in) {
+        return transactionTemplate.execute(status -> {
+            int[] counts = new int[2];
+            try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new BadRequestException("Invalid " + DATA_ENTRY);
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "formatVersion" -> {
+                            if (parser.getIntValue() > FORMAT_VERSION) {
+                                throw new BadRequestException("Unsupported archive format version: " + parser.getIntValue());
+                            }
+                        }
+                        case "profiles" -> counts[0] = readBatches(parser, ProfileDto.class, profileService::importProfiles);
+                        case "projects" -> counts[1] = readBatches(parser, ProjectDto.class, projectService::importProjects);
+                        default -> parser.skipChildren();
+                    }
+                }
+            } catch (IOException e) {
+                throw new BadRequestException("Invalid " + DATA_ENTRY + ": " + e.getMessage());
+            }
+            return counts;
+        });
+    }
+    
+    private <T> int readBatches(JsonParser parser, Class<T> type, Consumer<List<T>> importer) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new BadRequestException("Invalid " + DATA_ENTRY + ": expected an array");
+        }
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            batch.add(objectMapper.readValue(parser, type));
+            if (batch.size() == BATCH_SIZE) {
+                count += flush(batch, importer);
+            }
+        }
+        return count + flush(batch, importer);
+    }
+    
+    private <T> int flush(List<T> batch, Consumer<List<T>> importer) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        importer.accept(batch);
+        // 저장한 엔티티를 영속성 컨텍스트에서 내보내 메모리 사용량을 배치 크기로 제한
+        entityManager.flush();
+        entityManager.clear();
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+}
@@ -3,17 +3,27 @@ package com.profile.backend.service.impl;
 import com.profile.backend.dto.ProfileDto;
 import com.profile.backend.entity.*;
 import com.profile.backend.exception.ResourceNotFoundException;
+import com.profile.backend.repository.CareerRepository;
+import com.profile.backend.repository.EducationRepository;
 import com.profile.backend.repository.ProfileRepository;
+import com.profile.backend.repository.SkillRepository;
+import com.profile.backend.repository.SocialRepository;
+import com.profile.backend.service.AfterCommit;
+import com.profile.backend.service.ContentVersions;
+import com.profile.backend.service.ImageStorage;
 import com.profile.backend.service.ProfileService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,11 +32,16 @@ import java.util.stream.Collectors;
 public class ProfileServiceImpl implements ProfileService {
 
     private final ProfileRepository profileRepository;
-    
-    @Value("${app.upload.image-dir}")
-    private String uploadDir;
+    private final CareerRepository careerRepository;
+    private final EducationRepository educationRepository;
+    private final SkillRepository skillRepository;
+    private final SocialRepository socialRepository;
+    private final ImageStorage imageStorage;
+    private final ContentVersions contentVersions;
+    private final TransactionTemplate transactionTemplate;
     
     @Override
+    @Transactional(readOnly = true)
     public ProfileDto getProfile(Long id) {
         Profile profile = profileRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
@@ -34,15 +49,37 @@ public class ProfileServiceImpl implements ProfileService {
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public Long getProfileVersion(Long id) {
+        return profileRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public ProfileDto getFirstProfile() {
-        return profileRepository.findAll().stream()
-                .findFirst()
+        return profileRepository.findPrimaryWithCollections()
                 .map(this::mapToDto)
                 .orElseThrow(() -> new ResourceNotFoundException("No profiles found"));
     }
     
+    @Override
+    public ProfileDto setPrimaryProfile(Long id) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
+        Profile profile = profileRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
+        
+        // 대표 프로필은 하나만 유지
+        profileRepository.clearPrimaryExcept(id);
+        profile.setPrimary(true);
+        
+        Profile updatedProfile = profileRepository.save(profile);
+        return mapToCommittedDto(updatedProfile);
+    }
+    
     @Override
     public ProfileDto createProfile(ProfileDto profileDto) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
         Profile profile = mapToEntity(profileDto);
         Profile savedProfile = profileRepository.save(profile);
         return mapToDto(savedProfile);
@@ -50,6 +87,7 @@ public class ProfileServiceImpl implements ProfileService {
     
     @Override
     public ProfileDto updateProfile(Long id, ProfileDto profileDto) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
         Profile profile = profileRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
         
@@ -62,203 +100,202 @@ public class ProfileServiceImpl implements ProfileService {
         profile.setAddress(profileDto.getAddress());
         
         Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapToCommittedDto(updatedProfile);
     }
     
     @Override
     public void deleteProfile(Long id) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
         if (!profileRepository.existsById(id)) {
             throw new ResourceNotFoundException("Profile not found with id: " + id);
         }
         profileRepository.deleteById(id);
     }
     
-    // Career 관련 메서드
     @Override
-    public ProfileDto addCareer(Long profileId, ProfileDto.CareerDto careerDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportProfiles(int batchSize, Consumer<ProfileDto> consumer) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        
+        long cursor = 0L;
+        while (true) {
+            long after = cursor;
+            List<ProfileDto> batch = readOnly.execute(status ->
+                    profileRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, batchSize)).stream()
+                            .map(this::mapToDto)
+                            .collect(Collectors.toList()));
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            batch.forEach(consumer);
+            if (batch.size() < batchSize) {
+                return;
+            }
+            cursor = batch.get(batch.size() - 1).getId();
+        }
+    }
+    
+    @Override
+    public void importProfiles(List<ProfileDto> profileDtos) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
+        boolean hasPrimary = profileRepository.existsByPrimaryTrue();
+        
+        List<Profile> profiles = new ArrayList<>(profileDtos.size());
+        for (ProfileDto profileDto : profileDtos) {
+            Profile profile = mapToEntity(profileDto);
+            // 대표 프로필은 하나만 유지
+            if (!hasPrimary && Boolean.TRUE.equals(profileDto.getPrimary())) {
+                profile.setPrimary(true);
+                hasPrimary = true;
+            }
+            profiles.add(profile);
+        }
+        profileRepository.saveAll(profiles);
+    }
+    
+    // Career 관련 메서드 - 프로필 전체가 아닌 하위 테이블에 직접 반영
+    @Override
+    public ProfileDto.CareerDto addCareer(Long profileId, ProfileDto.CareerDto careerDto) {
         Career career = new Career();
         career.setCompany(careerDto.getCompany());
         career.setPosition(careerDto.getPosition());
         career.setPeriod(careerDto.getPeriod());
         career.setDescription(careerDto.getDescription());
-        career.setProfile(profile);
+        career.setProfile(touchProfile(profileId));
         
-        profile.getCareers().add(career);
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapCareerToDto(careerRepository.save(career));
     }
     
     @Override
-    public ProfileDto updateCareer(Long profileId, Long careerId, ProfileDto.CareerDto careerDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        Career career = profile.getCareers().stream()
-                .filter(c -> c.getId().equals(careerId))
-                .findFirst()
+    public ProfileDto.CareerDto updateCareer(Long profileId, Long careerId, ProfileDto.CareerDto careerDto) {
+        Career career = careerRepository.findByIdAndProfileId(careerId, profileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Career not found with id: " + careerId));
         
+        touchProfile(profileId);
         career.setCompany(careerDto.getCompany());
         career.setPosition(careerDto.getPosition());
         career.setPeriod(careerDto.getPeriod());
         career.setDescription(careerDto.getDescription());
         
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapCareerToDto(career);
     }
     
     @Override
-    public ProfileDto deleteCareer(Long profileId, Long careerId) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        profile.getCareers().removeIf(career -> career.getId().equals(careerId));
-        
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+    public void deleteCareer(Long profileId, Long careerId) {
+        touchProfile(profileId);
+        careerRepository.deleteByIdAndProfileId(careerId, profileId);
     }
     
-    // Education 관련 메서드
+    // Education 관련 메서드 - 프로필 전체가 아닌 하위 테이블에 직접 반영
     @Override
-    public ProfileDto addEducation(Long profileId, ProfileDto.EducationDto educationDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
+    public ProfileDto.EducationDto addEducation(Long profileId, ProfileDto.EducationDto educationDto) {
         Education education = new Education();
         education.setInstitution(educationDto.getInstitution());
         education.setDegree(educationDto.getDegree());
         education.setPeriod(educationDto.getPeriod());
         education.setDescription(educationDto.getDescription());
-        education.setProfile(profile);
+        education.setProfile(touchProfile(profileId));
         
-        profile.getEducations().add(education);
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapEducationToDto(educationRepository.save(education));
     }
     
     @Override
-    public ProfileDto updateEducation(Long profileId, Long educationId, ProfileDto.EducationDto educationDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        Education education = profile.getEducations().stream()
-                .filter(e -> e.getId().equals(educationId))
-                .findFirst()
+    public ProfileDto.EducationDto updateEducation(Long profileId, Long educationId, ProfileDto.EducationDto educationDto) {
+        Education education = educationRepository.findByIdAndProfileId(educationId, profileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Education not found with id: " + educationId));
         
+        touchProfile(profileId);
         education.setInstitution(educationDto.getInstitution());
         education.setDegree(educationDto.getDegree());
         education.setPeriod(educationDto.getPeriod());
         education.setDescription(educationDto.getDescription());
         
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapEducationToDto(education);
     }
     
     @Override
-    public ProfileDto deleteEducation(Long profileId, Long educationId) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        profile.getEducations().removeIf(education -> education.getId().equals(educationId));
-        
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+    public void deleteEducation(Long profileId, Long educationId) {
+        touchProfile(profileId);
+        educationRepository.deleteByIdAndProfileId(educationId, profileId);
     }
     
-    // Skill 관련 메서드
+    // Skill 관련 메서드 - 프로필 전체가 아닌 하위 테이블에 직접 반영
     @Override
-    public ProfileDto addSkill(Long profileId, ProfileDto.SkillDto skillDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
+    public ProfileDto.SkillDto addSkill(Long profileId, ProfileDto.SkillDto skillDto) {
         Skill skill = new Skill();
         skill.setName(skillDto.getName());
         skill.setLevel(skillDto.getLevel());
         skill.setCategory(skillDto.getCategory());
-        skill.setProfile(profile);
+        skill.setProfile(touchProfile(profileId));
         
-        profile.getSkills().add(skill);
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapSkillToDto(skillRepository.save(skill));
     }
     
     @Override
-    public ProfileDto updateSkill(Long profileId, Long skillId, ProfileDto.SkillDto skillDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        Skill skill = profile.getSkills().stream()
-                .filter(s -> s.getId().equals(skillId))
-                .findFirst()
+    public ProfileDto.SkillDto updateSkill(Long profileId, Long skillId, ProfileDto.SkillDto skillDto) {
+        Skill skill = skillRepository.findByIdAndProfileId(skillId, profileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + skillId));
         
+        touchProfile(profileId);
         skill.setName(skillDto.getName());
         skill.setLevel(skillDto.getLevel());
         skill.setCategory(skillDto.getCategory());
         
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapSkillToDto(skill);
     }
     
     @Override
-    public ProfileDto deleteSkill(Long profileId, Long skillId) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        profile.getSkills().removeIf(skill -> skill.getId().equals(skillId));
-        
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+    public void deleteSkill(Long profileId, Long skillId) {
+        touchProfile(profileId);
+        skillRepository.deleteByIdAndProfileId(skillId, profileId);
     }
     
-    // Social 관련 메서드
+    // Social 관련 메서드 - 프로필 전체가 아닌 하위 테이블에 직접 반영
     @Override
-    public ProfileDto addSocial(Long profileId, ProfileDto.SocialDto socialDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
+    public ProfileDto.SocialDto addSocial(Long profileId, ProfileDto.SocialDto socialDto) {
         Social social = new Social();
         social.setPlatform(socialDto.getPlatform());
         social.setUrl(socialDto.getUrl());
         social.setIcon(socialDto.getIcon());
-        social.setProfile(profile);
+        social.setProfile(touchProfile(profileId));
         
-        profile.getSocials().add(social);
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapSocialToDto(socialRepository.save(social));
     }
     
     @Override
-    public ProfileDto updateSocial(Long profileId, Long socialId, ProfileDto.SocialDto socialDto) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        Social social = profile.getSocials().stream()
-                .filter(s -> s.getId().equals(socialId))
-                .findFirst()
+    public ProfileDto.SocialDto updateSocial(Long profileId, Long socialId, ProfileDto.SocialDto socialDto) {
+        Social social = socialRepository.findByIdAndProfileId(socialId, profileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Social not found with id: " + socialId));
         
+        touchProfile(profileId);
         social.setPlatform(socialDto.getPlatform());
         social.setUrl(socialDto.getUrl());
         social.setIcon(socialDto.getIcon());
         
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+        return mapSocialToDto(social);
     }
     
     @Override
-    public ProfileDto deleteSocial(Long profileId, Long socialId) {
-        Profile profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + profileId));
-        
-        profile.getSocials().removeIf(social -> social.getId().equals(socialId));
-        
-        Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
+    public void deleteSocial(Long profileId, Long socialId) {
+        touchProfile(profileId);
+        socialRepository.deleteByIdAndProfileId(socialId, profileId);
+    }
+    
+    // 하위 항목 변경 시 프로필 버전을 올리고(ETag 무효화) 로딩 없이 참조 반환
+    private Profile touchProfile(Long profileId) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
+        if (profileRepository.incrementVersion(profileId) == 0) {
+            throw new ResourceNotFoundException("Profile not found with id: " + profileId);
+        }
+        return profileRepository.getReferenceById(profileId);
+    }
+    
+    // 수정된 프로필의 버전은 커밋 시 flush 에서 증가하므로, 응답 버전은 커밋 후 값으로 채움 (ETag 와 일치)
+    private ProfileDto mapToCommittedDto(Profile profile) {
+        ProfileDto dto = mapToDto(profile);
+        AfterCommit.run(() -> dto.setVersion(profile.getVersion()));
+        return dto;
     }
     
     // Entity에서 DTO로 변환하는 메서드
@@ -270,45 +307,64 @@ public class ProfileServiceImpl implements ProfileService {
                 .bio(profile.getBio())
                 .email(profile.getEmail())
                 .image(profile.getImage())
+                .imageWidths(imageStorage.variantWidths(profile.getImage()))
                 .phone(profile.getPhone())
                 .address(profile.getAddress())
+                .primary(profile.isPrimary())
+                .version(profile.getVersion())
                 .careers(profile.getCareers().stream()
-                        .map(career -> ProfileDto.CareerDto.builder()
-                                .id(career.getId())
-                                .company(career.getCompany())
-                                .position(career.getPosition())
-                                .period(career.getPeriod())
-                                .description(career.getDescription())
-                                .build())
+                        .map(this::mapCareerToDto)
                         .collect(Collectors.toList()))
                 .educations(profile.getEducations().stream()
-                        .map(education -> ProfileDto.EducationDto.builder()
-                                .id(education.getId())
-                                .institution(education.getInstitution())
-                                .degree(education.getDegree())
-                                .period(education.getPeriod())
-                                .description(education.getDescription())
-                                .build())
+                        .map(this::mapEducationToDto)
                         .collect(Collectors.toList()))
                 .skills(profile.getSkills().stream()
-                        .map(skill -> ProfileDto.SkillDto.builder()
-                                .id(skill.getId())
-                                .name(skill.getName())
-                                .level(skill.getLevel())
-                                .category(skill.getCategory())
-                                .build())
+                        .map(this::mapSkillToDto)
                         .collect(Collectors.toList()))
                 .socials(profile.getSocials().stream()
-                        .map(social -> ProfileDto.SocialDto.builder()
-                                .id(social.getId())
-                                .platform(social.getPlatform())
-                                .url(social.getUrl())
-                                .icon(social.getIcon())
-                                .build())
+                        .map(this::mapSocialToDto)
                         .collect(Collectors.toList()))
                 .build();
     }
     
+    private ProfileDto.CareerDto mapCareerToDto(Career career) {
+        return ProfileDto.CareerDto.builder()
+                .id(career.getId())
+                .company(career.getCompany())
+                .position(career.getPosition())
+                .period(career.getPeriod())
+                .description(career.getDescription())
+                .build();
+    }
+    
+    private ProfileDto.EducationDto mapEducationToDto(Education education) {
+        return ProfileDto.EducationDto.builder()
+                .id(education.getId())
+                .institution(education.getInstitution())
+                .degree(education.getDegree())
+                .period(education.getPeriod())
+                .description(education.getDescription())
+                .build();
+    }
+    
+    private ProfileDto.SkillDto mapSkillToDto(Skill skill) {
+        return ProfileDto.SkillDto.builder()
+                .id(skill.getId())
+                .name(skill.getName())
+                .level(skill.getLevel())
+                .category(skill.getCategory())
+                .build();
+    }
+    
+    private ProfileDto.SocialDto mapSocialToDto(Social social) {
+        return ProfileDto.SocialDto.builder()
+                .id(social.getId())
+                .platform(social.getPlatform())
+                .url(social.getUrl())
+                .icon(social.getIcon())
+                .build();
+    }
+    
     // DTO에서 Entity로 변환하는 메서드
     private Profile mapToEntity(ProfileDto profileDto) {
         Profile profile = new Profile();
@@ -376,13 +432,19 @@ public class ProfileServiceImpl implements ProfileService {
     // 이미지 업로드를 위한 메서드 구현
     @Override
     public ProfileDto createProfileWithImage(ProfileDto profileDto, MultipartFile imageFile) throws IOException {
+        // 이미지 처리
+        String fileName = !imageFile.isEmpty() ? imageStorage.store(imageFile) : null;
+        return createProfileWithImageUrl(profileDto, fileName);
+    }
+    
+    @Override
+    public ProfileDto createProfileWithImageUrl(ProfileDto profileDto, String imageUrl) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
         // 프로필 생성
         Profile profile = mapToEntity(profileDto);
         
-        // 이미지 처리
-        if (!imageFile.isEmpty()) {
-            String fileName = saveImage(imageFile);
-            profile.setImage(fileName);
+        if (imageUrl != null) {
+            profile.setImage(imageUrl);
         }
         
         Profile savedProfile = profileRepository.save(profile);
@@ -391,6 +453,14 @@ public class ProfileServiceImpl implements ProfileService {
 
     @Override
     public ProfileDto updateProfileWithImage(Long id, ProfileDto profileDto, MultipartFile imageFile) throws IOException {
+        // 이미지 처리
+        String fileName = imageFile != null && !imageFile.isEmpty() ? imageStorage.store(imageFile) : null;
+        return updateProfileWithImageUrl(id, profileDto, fileName);
+    }
+    
+    @Override
+    public ProfileDto updateProfileWithImageUrl(Long id, ProfileDto profileDto, String imageUrl) {
+        contentVersions.changed(ContentVersions.Area.PROFILES);
         Profile profile = profileRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found with id: " + id));
         
@@ -402,40 +472,11 @@ public class ProfileServiceImpl implements ProfileService {
         profile.setPhone(profileDto.getPhone());
         profile.setAddress(profileDto.getAddress());
         
-        // 이미지 처리
-        if (imageFile != null && !imageFile.isEmpty()) {
-            String fileName = saveImage(imageFile);
-            profile.setImage(fileName);
+        if (imageUrl != null) {
+            profile.setImage(imageUrl);
         }
         
         Profile updatedProfile = profileRepository.save(profile);
-        return mapToDto(updatedProfile);
-    }
-
-    // 이미지 저장 helper 메서드
-    private String saveImage(MultipartFile file) throws IOException {
-        // 디렉토리가 없으면 생성
-        File directory = new File(uploadDir);
-        if (!directory.exists()) {
-            boolean created = directory.mkdirs();
-            if (!created) {
-                throw new IOException("Failed to create directory: " + uploadDir);
-            }
-        }
-        
-        // 파일 이름 생성 (중복 방지를 위해 타임스탬프 추가)
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            originalFilename = "unknown.jpg";
-        }
-        String fileName = System.currentTimeMillis() + "_" + originalFilename.replaceAll("\\s+", "_");
-        String filePath = uploadDir + File.separator + fileName;
-        
-        // 파일 저장
-        File dest = new File(filePath);
-        file.transferTo(dest);
-        
-        // 상대 URL 반환 (프론트엔드에서 접근 가능한 URL)
-        return "/api/images/" + fileName;
+        return mapToCommittedDto(updatedProfile);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
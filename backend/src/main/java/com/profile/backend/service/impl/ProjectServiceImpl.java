@@ -1,20 +1,45 @@
 package com.profile.backend.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.profile.backend.dto.ProjectDto;
 import com.profile.backend.entity.Project;
+import com.profile.backend.entity.ProjectCard;
 import com.profile.backend.entity.TroubleShooting;
 import com.profile.backend.exception.ResourceNotFoundException;
+import com.profile.backend.repository.ProjectCardRepository;
 import com.profile.backend.repository.ProjectRepository;
+import com.profile.backend.service.AfterCommit;
+import com.profile.backend.service.ContentVersions;
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.ImageUploadStager;
 import com.profile.backend.service.ProjectService;
+import com.profile.backend.service.SearchService;
+import com.profile.backend.service.StagedImages;
+import com.profile.backend.service.TechnologyFacetService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,58 +47,169 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final Logger logger = Logger.getLogger(ProjectServiceImpl.class.getName());
+
     private final ProjectRepository projectRepository;
+    private final ImageStorage imageStorage;
+    private final ContentVersions contentVersions;
+    private final SearchService searchService;
+    private final TechnologyFacetService technologyFacetService;
+    private final ImageUploadStager imageUploadStager;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectCardRepository projectCardRepository;
+    private final ObjectMapper objectMapper;
     
+    // 목록 조회는 읽기 모델(project_cards)에서 프로젝트당 한 행만 읽음 (기술 스택/이미지/트러블슈팅 테이블 조회 없음)
+    // 카드에는 목록 화면에 필요한 필드만 있으므로 description, 이미지 목록, 트러블슈팅은 단건 조회에서만 제공
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(this::mapToDto)
+        return projectCardRepository.findAllByOrderByIdAsc().stream()
+                .map(this::readCard)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDto> getProjects(Long after, Integer limit) {
+        long cursor = after != null ? after : 0L;
+        Pageable pageable = limit != null ? PageRequest.of(0, limit) : Pageable.unpaged();
+        
+        return projectCardRepository.findByIdGreaterThanOrderByIdAsc(cursor, pageable).stream()
+                .map(this::readCard)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDto> getProjectsByDate(LocalDate from, LocalDate to, Sort sort, Integer limit) {
+        // 같은 날짜끼리는 id 순으로 고정
+        Sort order = sort.and(Sort.by("id"));
+        Pageable pageable = limit != null ? PageRequest.of(0, limit, order) : Pageable.unpaged(order);
+        
+        return readCards(projectRepository.findIdsByDateRange(from, to, pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDto> getProjectsByTechnologies(Collection<String> technologies, Long after, Integer limit) {
+        long cursor = after != null ? after : 0L;
+        Pageable pageable = limit != null ? PageRequest.of(0, limit) : Pageable.unpaged();
+        
+        List<String> normalized = normalizeTechnologies(technologies);
+        return readCards(projectRepository.findIdsByTechnologies(cursor, normalized, normalized.size(), pageable));
+    }
+    
+    // 기술명 정규화: 앞뒤 공백 제거, 빈 값 제외, 대소문자만 다른 중복 제거 (입력 순서 유지)
+    private List<String> normalizeTechnologies(Collection<String> technologies) {
+        List<String> normalized = new ArrayList<>();
+        if (technologies == null) {
+            return normalized;
+        }
+        Set<String> seen = new HashSet<>();
+        for (String technology : technologies) {
+            if (technology == null || technology.isBlank()) {
+                continue;
+            }
+            String name = technology.trim();
+            if (seen.add(name.toLowerCase(Locale.ROOT))) {
+                normalized.add(name);
+            }
+        }
+        return normalized;
+    }
+    
+    // 필터 조회로 찾은 id 순서대로 카드 조회 (한 번의 쿼리)
+    private List<ProjectDto> readCards(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, ProjectCard> cards = projectCardRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProjectCard::getId, card -> card));
+        return ids.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .map(this::readCard)
                 .collect(Collectors.toList());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public ProjectDto getProject(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         return mapToDto(project);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Long getProjectVersion(Long id) {
+        return projectRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+    }
+    
     @Override
     public ProjectDto createProject(ProjectDto projectDto) {
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
         Project project = mapToEntity(projectDto);
         Project savedProject = projectRepository.save(project);
+        writeCard(savedProject);
+        searchService.indexProject(savedProject.getId());
+        technologyFacetService.update(savedProject.getId());
         return mapToDto(savedProject);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProjectDto createProjectWithFiles(
             ProjectDto projectDto, 
             List<MultipartFile> images,
             Integer thumbnailIndex,
             List<MultipartFile> troubleshootingImages,
             List<String> troubleshootingImageIndices) throws IOException {
+
+        // 트랜잭션 시작 전에 이미지를 병렬로 저장 (커넥션 점유 시간이 업로드 크기와 무관하도록)
+        // 실패 시 이미 저장된 파일은 참조되지 않으므로 유예 기간 후 미사용 이미지 정리(ImageGarbageCollector)에서 삭제
+        StagedImages stagedImages = imageUploadStager.stage(images);
+        StagedImages stagedTroubleshootingImages = imageUploadStager.stage(troubleshootingImages);
         
+        return createProjectWithStagedImages(projectDto, stagedImages, thumbnailIndex,
+                stagedTroubleshootingImages, troubleshootingImageIndices);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectDto createProjectWithStagedImages(
+            ProjectDto projectDto,
+            StagedImages stagedImages,
+            Integer thumbnailIndex,
+            StagedImages stagedTroubleshootingImages,
+            List<String> troubleshootingImageIndices) {
+        
+        // 트랜잭션에서는 메타데이터만 기록 (파일 저장은 이미 끝남)
+        return transactionTemplate.execute(status -> saveNewProject(projectDto, stagedImages, thumbnailIndex,
+                stagedTroubleshootingImages, troubleshootingImageIndices));
+    }
+    
+    private ProjectDto saveNewProject(ProjectDto projectDto, StagedImages stagedImages, Integer thumbnailIndex,
+                                      StagedImages stagedTroubleshootingImages, List<String> troubleshootingImageIndices) {
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
         Project project = mapToEntity(projectDto);
         
         // 날짜 필드 확인 및 기본값 설정
         if (project.getStartDate() == null) {
-            project.setStartDate(java.time.LocalDate.now().toString());
+            project.setStartDate(java.time.LocalDate.now());
         }
         if (project.getEndDate() == null) {
-            project.setEndDate(java.time.LocalDate.now().toString());
+            project.setEndDate(java.time.LocalDate.now());
         }
         
         // 이미지 파일 처리
-        if (images != null && !images.isEmpty()) {
+        if (!stagedImages.isEmpty()) {
             List<String> imageUrls = new ArrayList<>();
             
-            // 모든 이미지 파일을 저장하고 URL을 목록에 추가
-            for (MultipartFile image : images) {
-                if (!image.isEmpty()) {
-                    String imageUrl = saveImage(image);
-                    imageUrls.add(imageUrl);
-                }
-            }
+            // 미리 저장된 이미지 URL을 목록에 추가
+            imageUrls.addAll(stagedImages.urls());
             
             project.setImages(imageUrls);
             
@@ -100,12 +236,11 @@ public class ProjectServiceImpl implements ProjectService {
                 ts.setProject(project);
                 
                 // 이미지 처리
-                if (troubleshootingImages != null && troubleshootingImageIndices != null) {
+                if (troubleshootingImageIndices != null) {
                     for (int j = 0; j < troubleshootingImageIndices.size(); j++) {
-                        if (String.valueOf(i).equals(troubleshootingImageIndices.get(j)) && j < troubleshootingImages.size()) {
-                            MultipartFile tsImage = troubleshootingImages.get(j);
-                            if (!tsImage.isEmpty()) {
-                                String imageUrl = saveImage(tsImage);
+                        if (String.valueOf(i).equals(troubleshootingImageIndices.get(j)) && j < stagedTroubleshootingImages.size()) {
+                            String imageUrl = stagedTroubleshootingImages.url(j);
+                            if (imageUrl != null) {
                                 ts.setImage(imageUrl);
                                 break;
                             }
@@ -120,21 +255,25 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         Project savedProject = projectRepository.save(project);
+        writeCard(savedProject);
+        searchService.indexProject(savedProject.getId());
+        technologyFacetService.update(savedProject.getId());
         return mapToDto(savedProject);
     }
     
     @Override
     public ProjectDto updateProject(Long id, ProjectDto projectDto) {
-        Project project = projectRepository.findById(id)
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        Project project = projectRepository.findForUpdateById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         
         project.setTitle(projectDto.getName());
         project.setSummary(projectDto.getSummary());
         project.setDescription(projectDto.getDescription());
-        project.setTechnologies(projectDto.getTechnologies());
+        project.setTechnologies(normalizeTechnologies(projectDto.getTechnologies()));
         project.setThumbnail(projectDto.getThumbnail());
-        project.setStartDate(projectDto.getStartDate().toString());
-        project.setEndDate(projectDto.getEndDate().toString());
+        project.setStartDate(projectDto.getStartDate());
+        project.setEndDate(projectDto.getEndDate());
         
         // github, website 필드 추가
         if (projectDto.getGithub() != null) {
@@ -151,10 +290,14 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         Project updatedProject = projectRepository.save(project);
-        return mapToDto(updatedProject);
+        writeCard(updatedProject);
+        searchService.indexProject(updatedProject.getId());
+        technologyFacetService.update(updatedProject.getId());
+        return mapToCommittedDto(updatedProject);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProjectDto updateProjectWithFiles(
             Long id, 
             ProjectDto projectDto, 
@@ -163,8 +306,37 @@ public class ProjectServiceImpl implements ProjectService {
             List<MultipartFile> troubleshootingImages,
             List<String> troubleshootingImageIndices,
             List<String> deletedImages) throws IOException {
+
+        // 트랜잭션 시작 전에 이미지를 병렬로 저장 (커넥션 점유 시간이 업로드 크기와 무관하도록)
+        // 실패 시 이미 저장된 파일은 참조되지 않으므로 유예 기간 후 미사용 이미지 정리(ImageGarbageCollector)에서 삭제
+        StagedImages stagedImages = imageUploadStager.stage(images);
+        StagedImages stagedTroubleshootingImages = imageUploadStager.stage(troubleshootingImages);
         
-        Project project = projectRepository.findById(id)
+        return updateProjectWithStagedImages(id, projectDto, stagedImages, thumbnailIndex,
+                stagedTroubleshootingImages, troubleshootingImageIndices, deletedImages);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectDto updateProjectWithStagedImages(
+            Long id,
+            ProjectDto projectDto,
+            StagedImages stagedImages,
+            Integer thumbnailIndex,
+            StagedImages stagedTroubleshootingImages,
+            List<String> troubleshootingImageIndices,
+            List<String> deletedImages) {
+        
+        // 트랜잭션에서는 메타데이터만 기록 (파일 저장은 이미 끝남)
+        return transactionTemplate.execute(status -> saveExistingProject(id, projectDto, stagedImages, thumbnailIndex,
+                stagedTroubleshootingImages, troubleshootingImageIndices, deletedImages));
+    }
+    
+    private ProjectDto saveExistingProject(Long id, ProjectDto projectDto, StagedImages stagedImages, Integer thumbnailIndex,
+                                           StagedImages stagedTroubleshootingImages, List<String> troubleshootingImageIndices,
+                                           List<String> deletedImages) {
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        Project project = projectRepository.findForUpdateById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         
         // 기본 프로젝트 정보 업데이트
@@ -179,21 +351,21 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         if (projectDto.getDescription() != null) project.setDescription(projectDto.getDescription());
-        if (projectDto.getTechnologies() != null) project.setTechnologies(projectDto.getTechnologies());
+        if (projectDto.getTechnologies() != null) project.setTechnologies(normalizeTechnologies(projectDto.getTechnologies()));
         
         // 날짜 필드 업데이트 - null 체크 추가
         if (projectDto.getStartDate() != null) {
-            project.setStartDate(projectDto.getStartDate().toString());
+            project.setStartDate(projectDto.getStartDate());
         } else if (project.getStartDate() == null) {
             // 기존 데이터도 없는 경우 현재 날짜로 설정
-            project.setStartDate(java.time.LocalDate.now().toString());
+            project.setStartDate(java.time.LocalDate.now());
         }
         
         if (projectDto.getEndDate() != null) {
-            project.setEndDate(projectDto.getEndDate().toString());
+            project.setEndDate(projectDto.getEndDate());
         } else if (project.getEndDate() == null) {
             // 기존 데이터도 없는 경우 현재 날짜로 설정
-            project.setEndDate(java.time.LocalDate.now().toString());
+            project.setEndDate(java.time.LocalDate.now());
         }
         
         // GitHub 및 웹사이트 URL 업데이트
@@ -205,7 +377,7 @@ public class ProjectServiceImpl implements ProjectService {
         
         // 삭제된 이미지 처리
         if (deletedImages != null && !deletedImages.isEmpty()) {
-            System.out.println("삭제할 이미지: " + deletedImages);
+            logger.fine(() -> "삭제할 이미지: " + deletedImages);
             // 현재 이미지 목록에서 삭제 대상 이미지를 제거
             currentImages.removeAll(deletedImages);
             
@@ -221,14 +393,9 @@ public class ProjectServiceImpl implements ProjectService {
             }
         }
         
-        if (images != null && !images.isEmpty()) {
-            // 새 이미지 저장 및 URL 목록에 추가
-            for (MultipartFile image : images) {
-                if (!image.isEmpty()) {
-                    String imageUrl = saveImage(image);
-                    currentImages.add(imageUrl);
-                }
-            }
+        if (!stagedImages.isEmpty()) {
+            // 미리 저장된 새 이미지 URL을 목록에 추가
+            currentImages.addAll(stagedImages.urls());
             
             // 썸네일 설정
             if (thumbnailIndex != null && thumbnailIndex >= 0 && thumbnailIndex < currentImages.size()) {
@@ -256,12 +423,11 @@ public class ProjectServiceImpl implements ProjectService {
                 ts.setProject(project);
                 
                 // 이미지 처리
-                if (troubleshootingImages != null && troubleshootingImageIndices != null) {
+                if (troubleshootingImageIndices != null) {
                     for (int j = 0; j < troubleshootingImageIndices.size(); j++) {
-                        if (String.valueOf(i).equals(troubleshootingImageIndices.get(j)) && j < troubleshootingImages.size()) {
-                            MultipartFile tsImage = troubleshootingImages.get(j);
-                            if (!tsImage.isEmpty()) {
-                                String imageUrl = saveImage(tsImage);
+                        if (String.valueOf(i).equals(troubleshootingImageIndices.get(j)) && j < stagedTroubleshootingImages.size()) {
+                            String imageUrl = stagedTroubleshootingImages.url(j);
+                            if (imageUrl != null) {
                                 ts.setImage(imageUrl);
                                 break;
                             }
@@ -274,20 +440,101 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         Project updatedProject = projectRepository.save(project);
-        return mapToDto(updatedProject);
+        writeCard(updatedProject);
+        searchService.indexProject(updatedProject.getId());
+        technologyFacetService.update(updatedProject.getId());
+        return mapToCommittedDto(updatedProject);
     }
     
     @Override
     public void deleteProject(Long id) {
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
         if (!projectRepository.existsById(id)) {
             throw new ResourceNotFoundException("Project not found with id: " + id);
         }
         projectRepository.deleteById(id);
+        projectCardRepository.deleteById(id);
+        searchService.removeProject(id);
+        technologyFacetService.remove(id);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportProjects(int batchSize, Consumer<ProjectDto> consumer) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        
+        long cursor = 0L;
+        while (true) {
+            long after = cursor;
+            List<ProjectDto> batch = readOnly.execute(status ->
+                    projectRepository.findPageWithCollections(after, PageRequest.of(0, batchSize)).stream()
+                            .map(this::mapToDto)
+                            .collect(Collectors.toList()));
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            batch.forEach(consumer);
+            if (batch.size() < batchSize) {
+                return;
+            }
+            cursor = batch.get(batch.size() - 1).getId();
+        }
+    }
+    
+    @Override
+    public void importProjects(List<ProjectDto> projectDtos) {
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        List<Project> projects = new ArrayList<>(projectDtos.size());
+        for (ProjectDto projectDto : projectDtos) {
+            Project project = mapToEntity(projectDto);
+            if (projectDto.getTroubleshooting() != null) {
+                for (ProjectDto.TroubleShootingDto tsDto : projectDto.getTroubleshooting()) {
+                    TroubleShooting ts = new TroubleShooting();
+                    ts.setTitle(tsDto.getTitle());
+                    ts.setDescription(tsDto.getDescription());
+                    ts.setImage(tsDto.getImage());
+                    ts.setProject(project);
+                    project.getTroubleshooting().add(ts);
+                }
+            }
+            projects.add(project);
+        }
+        projectRepository.saveAll(projects);
+        writeCards(projects);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int writeStaleProjectCards(int batchSize) {
+        Integer removed = transactionTemplate.execute(status -> projectCardRepository.deleteWithoutProject());
+        if (removed != null && removed > 0) {
+            logger.info("프로젝트가 없는 카드 삭제: " + removed);
+        }
+        
+        int written = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = projectCardRepository.findProjectIdsWithoutCard(ProjectCard.FORMAT, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                List<Project> projects = projectRepository.findAllById(ids);
+                projectRepository.fetchTechnologies(projects);
+                writeCards(projects);
+                return projects.size();
+            });
+            if (count == null || count == 0) {
+                return written;
+            }
+            written += count;
+        }
     }
     
     @Override
     public ProjectDto addTroubleShooting(Long projectId, ProjectDto.TroubleShootingDto troubleShootingDto) {
-        Project project = projectRepository.findById(projectId)
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        Project project = projectRepository.findForUpdateById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
         
         TroubleShooting troubleShooting = new TroubleShooting();
@@ -298,13 +545,16 @@ public class ProjectServiceImpl implements ProjectService {
         
         project.getTroubleshooting().add(troubleShooting);
         Project updatedProject = projectRepository.save(project);
-        return mapToDto(updatedProject);
+        writeCard(updatedProject);
+        searchService.indexProject(updatedProject.getId());
+        return mapToCommittedDto(updatedProject);
     }
     
     @Override
     public ProjectDto updateTroubleShooting(Long projectId, Long troubleShootingId, 
                                           ProjectDto.TroubleShootingDto troubleShootingDto) {
-        Project project = projectRepository.findById(projectId)
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        Project project = projectRepository.findForUpdateById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
         
         TroubleShooting troubleShooting = project.getTroubleshooting().stream()
@@ -317,23 +567,29 @@ public class ProjectServiceImpl implements ProjectService {
         troubleShooting.setImage(troubleShootingDto.getImage());
         
         Project updatedProject = projectRepository.save(project);
-        return mapToDto(updatedProject);
+        writeCard(updatedProject);
+        searchService.indexProject(updatedProject.getId());
+        return mapToCommittedDto(updatedProject);
     }
     
     @Override
     public ProjectDto deleteTroubleShooting(Long projectId, Long troubleShootingId) {
-        Project project = projectRepository.findById(projectId)
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        Project project = projectRepository.findForUpdateById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
         
         project.getTroubleshooting().removeIf(ts -> ts.getId().equals(troubleShootingId));
         
         Project updatedProject = projectRepository.save(project);
-        return mapToDto(updatedProject);
+        writeCard(updatedProject);
+        searchService.indexProject(updatedProject.getId());
+        return mapToCommittedDto(updatedProject);
     }
     
     @Override
     public ProjectDto addTroubleShootingWithImage(Long projectId, ProjectDto.TroubleShootingDto troubleShootingDto, MultipartFile image) {
-        Project project = projectRepository.findById(projectId)
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        Project project = projectRepository.findForUpdateById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
         
         TroubleShooting troubleShooting = new TroubleShooting();
@@ -344,7 +600,7 @@ public class ProjectServiceImpl implements ProjectService {
         // 이미지 처리
         if (image != null && !image.isEmpty()) {
             try {
-                String imageUrl = saveImage(image);
+                String imageUrl = imageStorage.store(image);
                 troubleShooting.setImage(imageUrl);
             } catch (IOException e) {
                 throw new RuntimeException("Failed to save troubleshooting image", e);
@@ -353,14 +609,17 @@ public class ProjectServiceImpl implements ProjectService {
         
         project.getTroubleshooting().add(troubleShooting);
         Project updatedProject = projectRepository.save(project);
-        return mapToDto(updatedProject);
+        writeCard(updatedProject);
+        searchService.indexProject(updatedProject.getId());
+        return mapToCommittedDto(updatedProject);
     }
     
     @Override
     public ProjectDto updateTroubleShootingWithImage(Long projectId, Long troubleShootingId, 
                                                    ProjectDto.TroubleShootingDto troubleShootingDto, 
                                                    MultipartFile image) {
-        Project project = projectRepository.findById(projectId)
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+        Project project = projectRepository.findForUpdateById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
         
         TroubleShooting troubleShooting = project.getTroubleshooting().stream()
@@ -374,7 +633,7 @@ public class ProjectServiceImpl implements ProjectService {
         // 이미지 처리
         if (image != null && !image.isEmpty()) {
             try {
-                String imageUrl = saveImage(image);
+                String imageUrl = imageStorage.store(image);
                 troubleShooting.setImage(imageUrl);
             } catch (IOException e) {
                 throw new RuntimeException("Failed to save troubleshooting image", e);
@@ -382,7 +641,77 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         Project updatedProject = projectRepository.save(project);
-        return mapToDto(updatedProject);
+        writeCard(updatedProject);
+        searchService.indexProject(updatedProject.getId());
+        return mapToCommittedDto(updatedProject);
+    }
+    
+    private void writeCard(Project project) {
+        writeCards(List.of(project));
+    }
+    
+    // 목록 읽기 모델 갱신 (프로젝트 변경과 같은 트랜잭션에서 기록, 롤백되면 카드도 함께 롤백)
+    private void writeCards(List<Project> projects) {
+        // 기존 카드는 한 번에 조회해 내용만 바꾸고(dirty checking), 없는 카드만 새로 저장 (카드별 merge 조회 없음)
+        Map<Long, ProjectCard> existing = projectCardRepository.findByIdIn(
+                        projects.stream().map(Project::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(ProjectCard::getId, card -> card));
+        List<ProjectCard> newCards = new ArrayList<>();
+        for (Project project : projects) {
+            String content;
+            try {
+                content = objectMapper.writeValueAsString(mapToCard(project));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to write project card: " + project.getId(), e);
+            }
+            ProjectCard projectCard = existing.get(project.getId());
+            if (projectCard == null) {
+                newCards.add(new ProjectCard(project.getId(), content));
+            } else {
+                projectCard.setContent(content);
+                projectCard.setFormat(ProjectCard.FORMAT);
+            }
+        }
+        projectCardRepository.saveAll(newCards);
+    }
+    
+    private ProjectDto readCard(ProjectCard card) {
+        try {
+            return objectMapper.readValue(card.getContent(), ProjectDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read project card: " + card.getId(), e);
+        }
+    }
+    
+    // 목록 카드: 목록 화면에 그리는 필드만 저장 (description, 이미지 목록, 트러블슈팅 제외)
+    // 버전은 커밋 시점에 증가하므로 저장하지 않음 (ETag 는 단건 조회에서 사용)
+    private ProjectDto mapToCard(Project project) {
+        Map<String, List<Integer>> thumbnailWidths = null;
+        if (project.getThumbnail() != null) {
+            List<Integer> available = imageStorage.variantWidths(project.getThumbnail());
+            if (!available.isEmpty()) {
+                thumbnailWidths = Map.of(project.getThumbnail(), available);
+            }
+        }
+        return ProjectDto.builder()
+                .id(project.getId())
+                .name(project.getTitle())
+                .summary(project.getSummary())
+                .technologies(project.getTechnologies())
+                .thumbnail(project.getThumbnail())
+                .github(project.getGithub())
+                .website(project.getWebsite())
+                .imageWidths(thumbnailWidths)
+                .startDate(project.getStartDate())
+                .endDate(project.getEndDate())
+                .build();
+    }
+    
+    // 수정용 조회(OPTIMISTIC_FORCE_INCREMENT)의 버전 증가는 커밋 시점에 일어나므로, 응답 버전은 커밋 후 값으로 채움 (ETag 와 일치)
+    private ProjectDto mapToCommittedDto(Project project) {
+        ProjectDto dto = mapToDto(project);
+        AfterCommit.run(() -> dto.setVersion(project.getVersion()));
+        return dto;
     }
     
     // Entity에서 DTO로 변환하는 메서드
@@ -408,14 +737,35 @@ public class ProjectServiceImpl implements ProjectService {
                 .github(project.getGithub())
                 .website(project.getWebsite())
                 .images(project.getImages())
-                .startDate(java.time.LocalDate.parse(project.getStartDate()))
-                .endDate(java.time.LocalDate.parse(project.getEndDate()))
+                .imageWidths(imageWidths(project))
+                .startDate(project.getStartDate())
+                .endDate(project.getEndDate())
                 .troubleshooting(troubleShootingDtos)
+                .version(project.getVersion())
                 .build();
                 
         return projectDto;
     }
     
+    // 축소본이 생성된 이미지의 URL -> 너비 목록
+    private Map<String, List<Integer>> imageWidths(Project project) {
+        List<String> urls = new ArrayList<>();
+        urls.add(project.getThumbnail());
+        urls.addAll(project.getImages());
+        project.getTroubleshooting().forEach(ts -> urls.add(ts.getImage()));
+        
+        Map<String, List<Integer>> widths = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url != null && !widths.containsKey(url)) {
+                List<Integer> available = imageStorage.variantWidths(url);
+                if (!available.isEmpty()) {
+                    widths.put(url, available);
+                }
+            }
+        }
+        return widths.isEmpty() ? null : widths;
+    }
+    
     // DTO에서 Entity로 변환하는 메서드
     private Project mapToEntity(ProjectDto projectDto) {
         Project project = new Project();
@@ -429,7 +779,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
         
         project.setDescription(projectDto.getDescription());
-        project.setTechnologies(projectDto.getTechnologies());
+        project.setTechnologies(normalizeTechnologies(projectDto.getTechnologies()));
         project.setThumbnail(projectDto.getThumbnail());
         
         // github, website 필드 추가
@@ -445,52 +795,17 @@ public class ProjectServiceImpl implements ProjectService {
         
         // 날짜 필드 설정 - null 체크 및 기본값
         if (projectDto.getStartDate() != null) {
-            project.setStartDate(projectDto.getStartDate().toString());
+            project.setStartDate(projectDto.getStartDate());
         } else {
-            project.setStartDate(java.time.LocalDate.now().toString());
+            project.setStartDate(java.time.LocalDate.now());
         }
         
         if (projectDto.getEndDate() != null) {
-            project.setEndDate(projectDto.getEndDate().toString());
+            project.setEndDate(projectDto.getEndDate());
         } else {
-            project.setEndDate(java.time.LocalDate.now().toString());
+            project.setEndDate(java.time.LocalDate.now());
         }
         
         return project;
     }
-    
-    // 이미지 저장 helper 메서드
-    private String saveImage(MultipartFile file) throws IOException {
-        // 파일 저장을 위한 절대 경로 설정
-        String userHome = System.getProperty("user.home");
-        String uploadDir = userHome + File.separator + "profile-app-uploads" + File.separator + "images";
-        
-        // 디렉토리가 없으면 생성
-        File directory = new File(uploadDir);
-        if (!directory.exists()) {
-            boolean created = directory.mkdirs();
-            if (!created) {
-                throw new IOException("Failed to create directory: " + uploadDir);
-            }
-        }
-        
-        // 파일 이름 생성 (중복 방지를 위해 타임스탬프 추가)
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            originalFilename = "unknown.jpg";
-        }
-        String fileName = System.currentTimeMillis() + "_" + originalFilename.replaceAll("\\s+", "_");
-        String filePath = uploadDir + File.separator + fileName;
-        
-        // 파일 저장
-        File dest = new File(filePath);
-        file.transferTo(dest);
-        
-        // 파일 권한 설정 - 읽기/쓰기 권한 추가
-        dest.setReadable(true, false);
-        dest.setWritable(true, false);
-        
-        // 상대 URL 반환 (프론트엔드에서 접근 가능한 URL)
-        return "/api/images/" + fileName;
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
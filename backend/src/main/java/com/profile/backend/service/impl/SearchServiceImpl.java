@@ -0,0 +1,269 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.dto.SearchResultDto;
+import com.profile.backend.entity.Project;
+import com.profile.backend.entity.TroubleShooting;
+import com.profile.backend.repository.ProjectRepository;
+import com.profile.backend.service.AfterCommit;
+import com.profile.backend.service.SearchService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 메모리 역색인 기반 검색 (시작 시 전체 색인, 이후 프로젝트 쓰기 경로에서 프로젝트 단위로 갱신)
+@Service
+public class SearchServiceImpl implements SearchService {
+    
+    private static final Logger logger = Logger.getLogger(SearchServiceImpl.class.getName());
+    
+    private static final String TYPE_PROJECT = "project";
+    private static final String TYPE_TROUBLESHOOTING = "troubleshooting";
+    
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    // 필드별 가중치 (제목/기술 스택 일치를 본문보다 높게 평가)
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double TECHNOLOGY_WEIGHT = 2.0;
+    private static final double SUMMARY_WEIGHT = 1.5;
+    private static final double BODY_WEIGHT = 1.0;
+    
+    private static final int SUMMARY_LENGTH = 200;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    
+    private record DocKey(String type, long id) {}
+    
+    // 색인 문서: 표시용 필드, 가중치가 반영된 단어 빈도와 문서 길이
+    private record Document(DocKey key, Long projectId, String title, String summary,
+                            Map<String, Double> terms, double length) {}
+    
+    private final Map<String, Map<DocKey, Double>> postings = new HashMap<>();
+    private final Map<DocKey, Document> documents = new HashMap<>();
+    private final Map<Long, List<DocKey>> documentsByProject = new HashMap<>();
+    private double totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate indexTransaction;
+    
+    public SearchServiceImpl(ProjectRepository projectRepository, PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        // 쓰기 트랜잭션 커밋 후에 실행되므로 새 읽기 전용 트랜잭션에서 조회
+        this.indexTransaction = new TransactionTemplate(transactionManager);
+        this.indexTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.indexTransaction.setReadOnly(true);
+    }
+    
+    @Override
+    public List<SearchResultDto> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = totalLength / documentCount;
+            
+            Map<DocKey, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<DocKey, Double> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((key, frequency) -> {
+                    double norm = K1 * (1 - B + B * documents.get(key).length() / averageLength);
+                    scores.merge(key, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<DocKey, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(entry -> entry.getKey().id()))
+                    .limit(limit)
+                    .map(entry -> toResult(documents.get(entry.getKey()), entry.getValue()))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public void indexProject(Long projectId) {
+        AfterCommit.run(() -> reindex(projectId));
+    }
+    
+    @Override
+    public void removeProject(Long projectId) {
+        AfterCommit.run(() -> replace(projectId, List.of()));
+    }
+    
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, List<Document>> indexed = indexTransaction.execute(status ->
+                projectRepository.findAllWithCollections().stream()
+                        .collect(Collectors.toMap(Project::getId, this::toDocuments)));
+        
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentsByProject.clear();
+            totalLength = 0;
+            indexed.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("검색 색인 구성 완료: 문서 " + documents.size() + "개, 단어 " + postings.size() + "개");
+    }
+    
+    // 조회와 반영을 함께 직렬화해 늦게 커밋된 변경이 이전 상태로 덮어써지지 않도록 함
+    private synchronized void reindex(Long projectId) {
+        List<Document> projectDocuments = indexTransaction.execute(status ->
+                projectRepository.findById(projectId)
+                        .map(this::toDocuments)
+                        .orElse(List.of()));
+        replace(projectId, projectDocuments);
+    }
+    
+    private void replace(Long projectId, List<Document> projectDocuments) {
+        lock.writeLock().lock();
+        try {
+            remove(projectId);
+            if (!projectDocuments.isEmpty()) {
+                add(projectId, projectDocuments);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void add(Long projectId, List<Document> projectDocuments) {
+        List<DocKey> keys = new ArrayList<>(projectDocuments.size());
+        for (Document document : projectDocuments) {
+            documents.put(document.key(), document);
+            totalLength += document.length();
+            document.terms().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.key(), frequency));
+            keys.add(document.key());
+        }
+        documentsByProject.put(projectId, keys);
+    }
+    
+    private void remove(Long projectId) {
+        List<DocKey> keys = documentsByProject.remove(projectId);
+        if (keys == null) {
+            return;
+        }
+        for (DocKey key : keys) {
+            Document document = documents.remove(key);
+            totalLength -= document.length();
+            for (String term : document.terms().keySet()) {
+                Map<DocKey, Double> posting = postings.get(term);
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+    
+    // 프로젝트 문서 1개 + 트러블슈팅 항목별 문서
+    private List<Document> toDocuments(Project project) {
+        List<Document> projectDocuments = new ArrayList<>();
+        
+        Map<String, Double> terms = new HashMap<>();
+        addField(terms, project.getTitle(), TITLE_WEIGHT);
+        addField(terms, project.getSummary(), SUMMARY_WEIGHT);
+        addField(terms, project.getDescription(), BODY_WEIGHT);
+        for (String technology : project.getTechnologies()) {
+            addField(terms, technology, TECHNOLOGY_WEIGHT);
+        }
+        projectDocuments.add(document(new DocKey(TYPE_PROJECT, project.getId()), project.getId(),
+                project.getTitle(), project.getSummary(), terms));
+        
+        for (TroubleShooting troubleShooting : project.getTroubleshooting()) {
+            Map<String, Double> troubleShootingTerms = new HashMap<>();
+            addField(troubleShootingTerms, troubleShooting.getTitle(), TITLE_WEIGHT);
+            addField(troubleShootingTerms, troubleShooting.getDescription(), BODY_WEIGHT);
+            projectDocuments.add(document(new DocKey(TYPE_TROUBLESHOOTING, troubleShooting.getId()), project.getId(),
+                    troubleShooting.getTitle(), troubleShooting.getDescription(), troubleShootingTerms));
+        }
+        return projectDocuments;
+    }
+    
+    private Document document(DocKey key, Long projectId, String title, String summary, Map<String, Double> terms) {
+        double length = terms.values().stream().mapToDouble(Double::doubleValue).sum();
+        String shortSummary = summary != null && summary.length() > SUMMARY_LENGTH
+                ? summary.substring(0, SUMMARY_LENGTH)
+                : summary;
+        return new Document(key, projectId, title, shortSummary, terms, length);
+    }
+    
+    private void addField(Map<String, Double> terms, String text, double weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Double::sum);
+        }
+    }
+    
+    // 소문자 변환 후 문자/숫자 단위로 분리
+    // 한글은 조사가 붙어도 찾을 수 있도록 단어와 함께 2글자 단위(bigram)도 색인
+    private List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            tokens.add(token);
+            if (token.length() > 2 && isHangul(token)) {
+                for (int i = 0; i + 2 <= token.length(); i++) {
+                    tokens.add(token.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+    
+    private boolean isHangul(String token) {
+        return token.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL);
+    }
+    
+    private SearchResultDto toResult(Document document, double score) {
+        boolean troubleShooting = TYPE_TROUBLESHOOTING.equals(document.key().type());
+        return SearchResultDto.builder()
+                .type(document.key().type())
+                .projectId(document.projectId())
+                .troubleshootingId(troubleShooting ? document.key().id() : null)
+                .title(document.title())
+                .summary(document.summary())
+                .score(score)
+                .build();
+    }
+}
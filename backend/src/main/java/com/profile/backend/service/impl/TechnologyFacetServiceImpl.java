@@ -0,0 +1,127 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.dto.TechnologyCountDto;
+import com.profile.backend.repository.ProjectRepository;
+import com.profile.backend.service.AfterCommit;
+import com.profile.backend.service.TechnologyFacetService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 기술별 프로젝트 수 집계 (시작 시 전체 집계, 이후 프로젝트 생성/수정/삭제 시 변경분만 반영)
+@Service
+public class TechnologyFacetServiceImpl implements TechnologyFacetService {
+    
+    // 대소문자만 다른 기술명은 같은 기술로 집계 (DB 콜레이션과 동일)
+    private record Facet(String name, int count) {}
+    
+    // 소문자 키 -> 표시 이름과 프로젝트 수
+    private final Map<String, Facet> facets = new HashMap<>();
+    // 프로젝트 id -> 소문자 키 -> 표시 이름
+    private final Map<Long, Map<String, String>> technologiesByProject = new HashMap<>();
+    // 변경 시에만 다시 만드는 정렬된 응답
+    private volatile List<TechnologyCountDto> counts = List.of();
+    
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readTransaction;
+    
+    public TechnologyFacetServiceImpl(ProjectRepository projectRepository, PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        // 커밋 후 콜백에서 실행되므로 끝난 트랜잭션에 참여하지 않고 새 트랜잭션으로 커밋된 상태를 읽음
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+    
+    @Override
+    public List<TechnologyCountDto> getCounts() {
+        return counts;
+    }
+    
+    @Override
+    public void update(Long projectId) {
+        AfterCommit.run(() -> refresh(projectId));
+    }
+    
+    @Override
+    public void remove(Long projectId) {
+        AfterCommit.run(() -> apply(projectId, Map.of()));
+    }
+    
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Object[]> rows = readTransaction.execute(status -> projectRepository.findAllTechnologies());
+        
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        
+        facets.clear();
+        technologiesByProject.clear();
+        grouped.forEach((projectId, technologies) -> applyChange(projectId, toKeys(technologies)));
+        refreshCounts();
+    }
+    
+    // 조회와 반영을 함께 직렬화해 늦게 커밋된 변경이 이전 상태로 덮어써지지 않도록 함
+    private synchronized void refresh(Long projectId) {
+        List<String> technologies = readTransaction.execute(status -> projectRepository.findTechnologiesById(projectId));
+        apply(projectId, toKeys(technologies));
+    }
+    
+    private synchronized void apply(Long projectId, Map<String, String> technologies) {
+        applyChange(projectId, technologies);
+        refreshCounts();
+    }
+    
+    // 이전 기술 스택과 비교해 변경분만 집계에 반영
+    private void applyChange(Long projectId, Map<String, String> technologies) {
+        Map<String, String> previous = technologiesByProject.remove(projectId);
+        if (previous != null) {
+            previous.forEach((key, name) -> {
+                if (!technologies.containsKey(key)) {
+                    facets.computeIfPresent(key, (k, facet) -> facet.count() > 1 ? new Facet(facet.name(), facet.count() - 1) : null);
+                }
+            });
+        }
+        technologies.forEach((key, name) -> {
+            if (previous == null || !previous.containsKey(key)) {
+                facets.merge(key, new Facet(name, 1), (facet, added) -> new Facet(facet.name(), facet.count() + 1));
+            }
+        });
+        if (!technologies.isEmpty()) {
+            technologiesByProject.put(projectId, technologies);
+        }
+    }
+    
+    private void refreshCounts() {
+        counts = facets.values().stream()
+                .sorted(Comparator.comparingInt(Facet::count).reversed().thenComparing(Facet::name))
+                .map(facet -> TechnologyCountDto.builder().name(facet.name()).count(facet.count()).build())
+                .collect(Collectors.toUnmodifiableList());
+    }
+    
+    private Map<String, String> toKeys(Collection<String> technologies) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        if (technologies != null) {
+            for (String technology : technologies) {
+                keys.putIfAbsent(technology.toLowerCase(Locale.ROOT), technology);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,89 @@
+package com.profile.backend.config;
+
+import com.profile.backend.service.ContentVersions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary/replica 를 서로 다른 메모리 H2 DB 로 두고, 각 DB 에 이름을 기록해 어느 쪽에서 읽었는지 확인
+class ReadReplicaDataSourceConfigTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        DataSource dataSource = routing(new ContentVersions(), Duration.ofMinutes(1));
+
+        assertThat(read(dataSource, true)).isEqualTo("replica");
+        assertThat(read(dataSource, false)).isEqualTo("primary");
+    }
+
+    @Test
+    void workOutsideTransactionUsesPrimary() {
+        DataSource dataSource = routing(new ContentVersions(), Duration.ofMinutes(1));
+
+        assertThat(new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionUsesPrimaryWithinReadAfterWriteWindow() {
+        ContentVersions contentVersions = new ContentVersions();
+        DataSource dataSource = routing(contentVersions, Duration.ofMinutes(1));
+
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+
+        assertThat(read(dataSource, true)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionReturnsToReplicaAfterWindow() {
+        ContentVersions contentVersions = new ContentVersions();
+        DataSource dataSource = routing(contentVersions, Duration.ZERO);
+
+        contentVersions.changed(ContentVersions.Area.PROJECTS);
+
+        assertThat(read(dataSource, true)).isEqualTo("replica");
+    }
+
+    private DataSource routing(ContentVersions contentVersions, Duration window) {
+        return new ReadReplicaDataSourceConfig().dataSource(primary, replica, contentVersions, window);
+    }
+
+    private String read(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-routing;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table marker (name varchar(16))");
+        jdbcTemplate.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,85 @@
+package com.profile.backend.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileRangeWriterTest {
+
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private FileRangeWriter writer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.writeString(directory.resolve("image.png"), CONTENT);
+        writer = new FileRangeWriter(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void repeatedRangesAreSentOnce() throws IOException {
+        MockHttpServletResponse response = write("bytes=0-,0-,0-,0-");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-9/10");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void overlappingRangesAreMerged() throws IOException {
+        MockHttpServletResponse response = write("bytes=6-8,0-2,1-4");
+
+        assertThat(response.getContentType()).startsWith("multipart/byteranges");
+        String body = response.getContentAsString(StandardCharsets.US_ASCII);
+        assertThat(body).contains("Content-Range: bytes 0-4/10").contains("Content-Range: bytes 6-8/10");
+        assertThat(body.split("Content-Range: ", -1)).hasSize(3);
+    }
+
+    @Test
+    void adjacentRangesBecomeSingleRange() throws IOException {
+        MockHttpServletResponse response = write("bytes=0-4,5-9");
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-9/10");
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void rangeOutsideFileIsNotSatisfiable() throws IOException {
+        MockHttpServletResponse response = write("bytes=20-30");
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void rangeOutsideFileIsDroppedWhenAnotherIsSatisfiable() throws IOException {
+        MockHttpServletResponse response = write("bytes=2-4,20-30");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-4/10");
+        assertThat(response.getContentAsString()).isEqualTo("234");
+    }
+
+    private MockHttpServletResponse write(String range) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/images/image.png");
+        request.addHeader(HttpHeaders.RANGE, range);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(file, "image/png", "\"10-1\"", Files.getLastModifiedTime(file).toMillis(), request, response);
+        return response;
+    }
+}
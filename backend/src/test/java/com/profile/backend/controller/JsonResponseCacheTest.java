@@ -0,0 +1,75 @@
+package com.profile.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가득 찬 캐시에 새 항목이 들어오면 가장 오래 사용하지 않은 항목 하나만 제거되는지,
+// Accept-Encoding 에서 gzip 을 직접 지정한 항목이 '*' 보다 우선하는지 확인
+class JsonResponseCacheTest {
+
+    private final JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), 2, new SimpleMeterRegistry());
+    private final List<String> loaded = new ArrayList<>();
+
+    @Test
+    void evictsOnlyLeastRecentlyUsedEntry() {
+        respond("profile:1");
+        respond("profile:2");
+        respond("profile:1");
+        respond("profile:3");
+        loaded.clear();
+
+        respond("profile:1");
+        respond("profile:3");
+        assertThat(loaded).isEmpty();
+
+        respond("profile:2");
+        assertThat(loaded).containsExactly("profile:2");
+    }
+
+    @Test
+    void reloadsWhenVersionChanges() {
+        respond("projects", 1);
+        respond("projects", 2);
+
+        assertThat(loaded).containsExactly("projects", "projects");
+    }
+
+    @Test
+    void explicitGzipEntryTakesPrecedenceOverWildcard() {
+        assertThat(contentEncoding("gzip;q=0, *")).isNull();
+        assertThat(contentEncoding("*, gzip;q=0")).isNull();
+        assertThat(contentEncoding("*;q=0, gzip")).isEqualTo("gzip");
+        assertThat(contentEncoding("br, *")).isEqualTo("gzip");
+        assertThat(contentEncoding("identity")).isNull();
+    }
+
+    private String contentEncoding(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        // 압축본이 만들어지도록 충분히 큰 응답
+        ResponseEntity<byte[]> response = cache.respond("projects", 1, null, request,
+                () -> Map.of("key", "x".repeat(4096)));
+        return response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private void respond(String key) {
+        respond(key, 1);
+    }
+
+    private void respond(String key, long version) {
+        cache.respond(key, version, null, new MockHttpServletRequest(), () -> {
+            loaded.add(key);
+            return Map.of("key", key);
+        });
+    }
+}
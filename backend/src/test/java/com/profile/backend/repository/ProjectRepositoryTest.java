@@ -0,0 +1,76 @@
+package com.profile.backend.repository;
+
+import com.profile.backend.entity.Project;
+import com.profile.backend.entity.TroubleShooting;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 조회 쿼리 수가 프로젝트 수와 상관없이 3번으로 유지되는지 확인 (Hibernate Statistics)
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class ProjectRepositoryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void findAllWithCollectionsUsesThreeQueries(int projectCount) {
+        for (int i = 0; i < projectCount; i++) {
+            entityManager.persist(project(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Project> projects = projectRepository.findAllWithCollections();
+
+        assertThat(projects).hasSize(projectCount);
+        for (Project project : projects) {
+            assertThat(Hibernate.isInitialized(project.getTroubleshooting())).isTrue();
+            assertThat(Hibernate.isInitialized(project.getTechnologies())).isTrue();
+            assertThat(Hibernate.isInitialized(project.getImages())).isTrue();
+            assertThat(project.getTroubleshooting()).hasSize(2);
+            assertThat(project.getTechnologies()).hasSize(3);
+            assertThat(project.getImages()).hasSize(2);
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private static Project project(int index) {
+        Project project = new Project();
+        project.setTitle("Project " + index);
+        project.setSummary("Summary " + index);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setEndDate(LocalDate.of(2024, 6, 1));
+        project.getTechnologies().addAll(List.of("Java", "Spring Boot", "MySQL"));
+        project.getImages().addAll(List.of("/api/images/a" + index + ".png", "/api/images/b" + index + ".png"));
+        for (int i = 0; i < 2; i++) {
+            TroubleShooting troubleShooting = new TroubleShooting();
+            troubleShooting.setTitle("Issue " + i);
+            troubleShooting.setDescription("Description " + i);
+            troubleShooting.setProject(project);
+            project.getTroubleshooting().add(troubleShooting);
+        }
+        return project;
+    }
+}
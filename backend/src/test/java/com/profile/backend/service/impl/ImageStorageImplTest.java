@@ -0,0 +1,96 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.service.ImageStorage.StoredImage;
+import com.profile.backend.service.ImageVariantService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 같은 내용을 다시 올려도 원본 수정 시각(이미지 ETag)은 그대로이고 재사용 시각만 갱신되는지,
+// 축소본 너비는 실제로 만들어진 것만 반환하는지, 숨김 파일은 경로로 찾을 수 없는지 확인
+class ImageStorageImplTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void reuseKeepsModifiedTimeAndRecordsReuse() throws Exception {
+        ImageStorageImpl storage = new ImageStorageImpl(uploadDir.toString(), mock(ImageVariantService.class),
+                new SimpleMeterRegistry());
+
+        StoredImage first = storage.save(content(), "photo.png");
+        Path original = storage.resolve(first.url().substring(first.url().lastIndexOf('/') + 1));
+        FileTime modified = FileTime.from(Instant.now().minus(2, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(original, modified);
+
+        StoredImage second = storage.save(content(), "photo.png");
+
+        assertThat(second.created()).isFalse();
+        assertThat(second.url()).isEqualTo(first.url());
+        assertThat(Files.getLastModifiedTime(original)).isEqualTo(modified);
+        assertThat(storage.lastStored(original)).isAfter(Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        try (Stream<Path> files = storage.files()) {
+            assertThat(files).hasSize(1);
+        }
+
+        storage.delete(first.url());
+        try (Stream<Path> files = Files.list(original.getParent())) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void variantWidthsListsOnlyGeneratedVariants() throws Exception {
+        ImageStorageImpl storage = new ImageStorageImpl(uploadDir.toString(),
+                new ImageVariantServiceImpl(List.of(160, 480, 1080)), new SimpleMeterRegistry());
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB), "png", png);
+        String photo = storage.store(new MockMultipartFile("file", "photo.png", "image/png", png.toByteArray()));
+        String icon = storage.store(new MockMultipartFile("file", "icon.svg", "image/svg+xml",
+                "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(storage.variantWidths(photo)).containsExactly(160, 480);
+        assertThat(storage.variantWidths(icon)).isEmpty();
+        assertThat(storage.variantWidths("https://example.com/photo.png")).isEmpty();
+        assertThat(storage.variantWidths(null)).isEmpty();
+    }
+
+    @Test
+    void hiddenFilesAreNotResolved() throws Exception {
+        ImageStorageImpl storage = new ImageStorageImpl(uploadDir.toString(), mock(ImageVariantService.class),
+                new SimpleMeterRegistry());
+        Path directory = Files.createDirectories(uploadDir.resolve("ab").resolve("cd"));
+        Files.writeString(directory.resolve(".upload-1.tmp"), "partial");
+        Files.writeString(uploadDir.resolve(".reused-photo.png"), "");
+
+        assertThat(storage.resolve(".reused-photo.png")).isNull();
+        assertThat(storage.resolve("ab/cd/.upload-1.tmp")).isNull();
+        assertThat(storage.resolve("ab/../.reused-photo.png")).isNull();
+        assertThat(storage.resolve("..")).isNull();
+        assertThat(storage.resolve("ab/cd/photo.png")).isEqualTo(directory.resolve("photo.png"));
+    }
+
+    private static ByteArrayInputStream content() {
+        return new ByteArrayInputStream("image".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,69 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.dto.ProfileDto;
+import com.profile.backend.entity.Profile;
+import com.profile.backend.repository.ProfileRepository;
+import com.profile.backend.service.ContentVersions;
+import com.profile.backend.service.ImageStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 수정 응답의 버전이 커밋된 버전(ETag)과 같은지, 대표 프로필 해제 시 버전이 오르는지 확인
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({ProfileServiceImpl.class, ContentVersions.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProfileServiceImplTest {
+
+    @Autowired
+    private ProfileServiceImpl profileService;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @MockBean
+    private ImageStorage imageStorage;
+
+    @AfterEach
+    void deleteProfiles() {
+        profileRepository.deleteAll();
+    }
+
+    @Test
+    void updateReturnsCommittedVersion() {
+        Profile profile = profileRepository.save(profile("홍길동", false));
+
+        ProfileDto request = ProfileDto.builder().name("홍길동").title("백엔드 개발자").build();
+        ProfileDto updated = profileService.updateProfile(profile.getId(), request);
+
+        assertThat(updated.getVersion()).isEqualTo(profileRepository.findVersionById(profile.getId()).orElseThrow());
+        assertThat(updated.getVersion()).isGreaterThan(profile.getVersion());
+    }
+
+    @Test
+    void setPrimaryBumpsVersionOfClearedProfile() {
+        Profile previous = profileRepository.save(profile("이전 대표", true));
+        Profile next = profileRepository.save(profile("새 대표", false));
+
+        ProfileDto updated = profileService.setPrimaryProfile(next.getId());
+
+        assertThat(updated.getVersion()).isEqualTo(profileRepository.findVersionById(next.getId()).orElseThrow());
+        assertThat(profileRepository.findVersionById(previous.getId()).orElseThrow()).isGreaterThan(previous.getVersion());
+        assertThat(profileRepository.findById(previous.getId()).orElseThrow().isPrimary()).isFalse();
+    }
+
+    private Profile profile(String name, boolean primary) {
+        Profile profile = new Profile();
+        profile.setName(name);
+        profile.setTitle("개발자");
+        profile.setPrimary(primary);
+        return profile;
+    }
+}
@@ -0,0 +1,130 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.entity.Project;
+import com.profile.backend.entity.ProjectCard;
+import com.profile.backend.entity.TroubleShooting;
+import com.profile.backend.repository.ProjectCardRepository;
+import com.profile.backend.repository.ProjectRepository;
+import com.profile.backend.service.ContentVersions;
+import com.profile.backend.service.ImageStorage;
+import com.profile.backend.service.ImageUploadStager;
+import com.profile.backend.service.SearchService;
+import com.profile.backend.service.TechnologyFacetService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 읽기 모델(project_cards) 기록: 이전 형식 카드 재기록과 카드 수에 따라 늘지 않는 쿼리 수 확인
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({ProjectServiceImpl.class, ContentVersions.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectServiceImplTest {
+
+    @Autowired
+    private ProjectServiceImpl projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectCardRepository projectCardRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private ImageStorage imageStorage;
+
+    @MockBean
+    private ImageUploadStager imageUploadStager;
+
+    @MockBean
+    private SearchService searchService;
+
+    @MockBean
+    private TechnologyFacetService technologyFacetService;
+
+    @AfterEach
+    void deleteProjects() {
+        projectCardRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void writeStaleProjectCardsRewritesOldFormat() {
+        List<Project> projects = projectRepository.saveAll(List.of(project(0), project(1), project(2)));
+
+        assertThat(projectService.writeStaleProjectCards(100)).isEqualTo(3);
+        assertThat(projectService.writeStaleProjectCards(100)).isZero();
+
+        ProjectCard stale = projectCardRepository.findById(projects.get(1).getId()).orElseThrow();
+        stale.setFormat(ProjectCard.FORMAT - 1);
+        stale.setContent("{}");
+        projectCardRepository.save(stale);
+
+        assertThat(projectService.writeStaleProjectCards(100)).isEqualTo(1);
+        ProjectCard rewritten = projectCardRepository.findById(projects.get(1).getId()).orElseThrow();
+        assertThat(rewritten.getFormat()).isEqualTo(ProjectCard.FORMAT);
+        assertThat(rewritten.getContent()).contains("\"name\":\"Project 1\"");
+        assertThat(rewritten.getContent()).doesNotContain("Description 1", "Trouble 1");
+    }
+
+    @Test
+    void cardWriteQueriesDoNotGrowWithProjectCount() {
+        assertThat(cardWriteStatements(1)).isEqualTo(cardWriteStatements(20));
+    }
+
+    // 프로젝트 count 개의 카드를 처음 기록할 때와 이전 형식 카드를 다시 기록할 때의 SQL 문 수
+    private List<Long> cardWriteStatements(int count) {
+        deleteProjects();
+        for (int i = 0; i < count; i++) {
+            projectRepository.save(project(i));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        projectService.writeStaleProjectCards(100);
+        long inserted = statistics.getPrepareStatementCount();
+
+        List<ProjectCard> cards = projectCardRepository.findAll();
+        cards.forEach(card -> card.setFormat(ProjectCard.FORMAT - 1));
+        projectCardRepository.saveAll(cards);
+
+        statistics.clear();
+        projectService.writeStaleProjectCards(100);
+        long rewritten = statistics.getPrepareStatementCount();
+        return List.of(inserted, rewritten);
+    }
+
+    private static Project project(int index) {
+        Project project = new Project();
+        project.setTitle("Project " + index);
+        project.setSummary("Summary " + index);
+        project.setDescription("Description " + index);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setEndDate(LocalDate.of(2024, 6, 1));
+        project.getTechnologies().addAll(List.of("Java", "Spring Boot"));
+        TroubleShooting troubleShooting = new TroubleShooting();
+        troubleShooting.setTitle("Trouble " + index);
+        troubleShooting.setDescription("Trouble description " + index);
+        troubleShooting.setProject(project);
+        project.getTroubleshooting().add(troubleShooting);
+        return project;
+    }
+}
@@ -0,0 +1,86 @@
+package com.profile.backend.service.impl;
+
+import com.profile.backend.dto.TechnologyCountDto;
+import com.profile.backend.entity.Project;
+import com.profile.backend.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커밋 후 갱신이 새 트랜잭션에서 커밋된 기술 스택을 읽어 집계에 반영하는지 확인
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(TechnologyFacetServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TechnologyFacetServiceImplTest {
+
+    @Autowired
+    private TechnologyFacetServiceImpl technologyFacetService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void deleteProjects() {
+        projectRepository.deleteAll();
+        technologyFacetService.rebuild();
+    }
+
+    @Test
+    void updateAppliesCommittedTechnologies() {
+        Long id = transactionTemplate.execute(status -> {
+            Project project = projectRepository.save(project(List.of("Java", "Spring Boot")));
+            technologyFacetService.update(project.getId());
+            // 커밋 전에는 반영되지 않음
+            assertThat(technologyFacetService.getCounts()).isEmpty();
+            return project.getId();
+        });
+
+        assertThat(technologyFacetService.getCounts())
+                .extracting(TechnologyCountDto::getName)
+                .containsExactly("Java", "Spring Boot");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Project project = projectRepository.findById(id).orElseThrow();
+            project.setTechnologies(List.of("Kotlin"));
+            technologyFacetService.update(id);
+        });
+
+        assertThat(technologyFacetService.getCounts())
+                .extracting(TechnologyCountDto::getName)
+                .containsExactly("Kotlin");
+    }
+
+    @Test
+    void rolledBackUpdateIsNotApplied() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Project project = projectRepository.save(project(List.of("Java")));
+            technologyFacetService.update(project.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(technologyFacetService.getCounts()).isEmpty();
+    }
+
+    private static Project project(List<String> technologies) {
+        Project project = new Project();
+        project.setTitle("Project");
+        project.setSummary("Summary");
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setEndDate(LocalDate.of(2024, 6, 1));
+        project.getTechnologies().addAll(technologies);
+        return project;
+    }
+}